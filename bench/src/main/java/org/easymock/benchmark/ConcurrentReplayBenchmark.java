@@ -0,0 +1,112 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.easymock.EasyMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Many threads calling the same thread-safe mock. With a concurrent replay, the throughput should grow with the
+ * number of threads instead of staying flat because of the lock. With a per-thread replay, the threads don't share
+ * any call count either so it should grow linearly with the number of cores. With a journal replay, the calls are only
+ * appended to the journal of their thread and checked when verifying.
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ConcurrentReplayBenchmark {
+
+    public interface Service {
+        int call(int value);
+    }
+
+    @Param({ "locked", "concurrent", "perThread", "journal" })
+    private String replay;
+
+    private String previousConcurrent;
+
+    private String previousPerThread;
+
+    private String previousJournal;
+
+    private Service mock;
+
+    @Setup
+    public void setup() {
+        previousConcurrent = EasyMock.setEasyMockProperty(EasyMock.CONCURRENT_REPLAY,
+            String.valueOf(replay.equals("concurrent")));
+        previousPerThread = EasyMock.setEasyMockProperty(EasyMock.PER_THREAD_REPLAY,
+            String.valueOf(replay.equals("perThread")));
+        previousJournal = EasyMock.setEasyMockProperty(EasyMock.JOURNAL_REPLAY,
+            String.valueOf(replay.equals("journal")));
+        mock = EasyMock.mock(Service.class);
+        EasyMock.expect(mock.call(1)).andReturn(2).anyTimes();
+        EasyMock.expect(mock.call(2)).andStubReturn(3);
+        EasyMock.replay(mock);
+    }
+
+    @TearDown
+    public void tearDown() {
+        EasyMock.setEasyMockProperty(EasyMock.CONCURRENT_REPLAY, previousConcurrent);
+        EasyMock.setEasyMockProperty(EasyMock.PER_THREAD_REPLAY, previousPerThread);
+        EasyMock.setEasyMockProperty(EasyMock.JOURNAL_REPLAY, previousJournal);
+    }
+
+    private int calls() {
+        return mock.call(1) + mock.call(2);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int threads1() {
+        return calls();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int threads4() {
+        return calls();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public int threads16() {
+        return calls();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public int threads64() {
+        return calls();
+    }
+}
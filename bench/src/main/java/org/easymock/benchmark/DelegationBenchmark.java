@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.easymock.EasyMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A mock stubbed to delegate to an in-memory fake, the calls reaching the fake through {@code andStubDelegateTo}.
+ */
+@Fork(2)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 4, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DelegationBenchmark {
+
+    public interface Repository {
+        String find(int id);
+
+        int count(String... names);
+    }
+
+    public static class FakeRepository implements Repository {
+        @Override
+        public String find(int id) {
+            return "item";
+        }
+
+        @Override
+        public int count(String... names) {
+            return names.length;
+        }
+    }
+
+    private Repository mock;
+
+    @Setup
+    public void setup() {
+        Repository fake = new FakeRepository();
+        mock = EasyMock.mock(Repository.class);
+        EasyMock.expect(mock.find(EasyMock.anyInt())).andStubDelegateTo(fake);
+        EasyMock.expect(mock.count(EasyMock.anyString(), EasyMock.anyString())).andStubDelegateTo(fake);
+        EasyMock.replay(mock);
+    }
+
+    @Benchmark
+    public String delegate() {
+        return mock.find(42);
+    }
+
+    @Benchmark
+    public int varargs() {
+        return mock.count("a", "b");
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.easymock.EasyMock;
+import org.easymock.IMocksControl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of a replayed call according to the number of expectations recorded on the control. The expectations
+ * are spread on many mocks sharing the same control, or on one mock with a different argument each. The per-call
+ * cost should stay flat.
+ */
+@Fork(2)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 4, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ExpectationLookupBenchmark {
+
+    public interface Service {
+        int call();
+    }
+
+    public interface Repository {
+        String find(int id);
+    }
+
+    @Param({ "10", "1000", "100000" })
+    private int expectationCount;
+
+    private Service lastMock;
+
+    private Service stubbedMock;
+
+    private Repository repository;
+
+    private Repository stubbedRepository;
+
+    @Setup
+    public void setup() {
+        IMocksControl control = EasyMock.createControl();
+        for (int i = 0; i < expectationCount; i++) {
+            lastMock = control.mock(Service.class);
+            EasyMock.expect(lastMock.call()).andReturn(i).anyTimes();
+        }
+        for (int i = 0; i < expectationCount; i++) {
+            stubbedMock = control.mock(Service.class);
+            EasyMock.expect(stubbedMock.call()).andStubReturn(i);
+        }
+        repository = control.mock(Repository.class);
+        stubbedRepository = control.mock(Repository.class);
+        for (int i = 0; i < expectationCount; i++) {
+            EasyMock.expect(repository.find(i)).andReturn("found").anyTimes();
+            EasyMock.expect(stubbedRepository.find(i)).andStubReturn("found");
+        }
+        control.replay();
+    }
+
+    @Benchmark
+    public int expectation() {
+        return lastMock.call();
+    }
+
+    @Benchmark
+    public int stub() {
+        return stubbedMock.call();
+    }
+
+    @Benchmark
+    public String argumentExpectation() {
+        return repository.find(expectationCount - 1);
+    }
+
+    @Benchmark
+    public String argumentStub() {
+        return stubbedRepository.find(expectationCount - 1);
+    }
+}
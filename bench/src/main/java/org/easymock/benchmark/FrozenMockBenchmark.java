@@ -0,0 +1,76 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.easymock.EasyMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Calls to a stub-only mock, replayed or frozen. Run with {@code -prof gc} to see what each call allocates.
+ */
+@Fork(2)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 4, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class FrozenMockBenchmark {
+
+    public interface Service {
+        String name();
+
+        String find(String key);
+    }
+
+    @Param({ "false", "true" })
+    private boolean frozen;
+
+    private Service mock;
+
+    @Setup
+    public void setup() {
+        mock = EasyMock.mock(Service.class);
+        EasyMock.expect(mock.name()).andStubReturn("name");
+        EasyMock.expect(mock.find(EasyMock.anyString())).andStubReturn("value");
+        if (frozen) {
+            EasyMock.freeze(mock);
+        } else {
+            EasyMock.replay(mock);
+        }
+    }
+
+    @Benchmark
+    public String noArgument() {
+        return mock.name();
+    }
+
+    @Benchmark
+    public String anyArgument() {
+        return mock.find("key");
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.easymock.EasyMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Replayed calls on a class mock of a generic type. Calling through the generic supertype goes through a bridge
+ * method which should cost about the same as a direct call.
+ */
+@Fork(2)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 4, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class GenericClassMockBenchmark {
+
+    public static abstract class Repository<E> {
+        public abstract E find(E id);
+    }
+
+    public static class StringRepository extends Repository<String> {
+        @Override
+        public String find(String id) {
+            return id;
+        }
+    }
+
+    private StringRepository direct;
+
+    private Repository<String> generic;
+
+    @Setup
+    public void setup() {
+        direct = EasyMock.mock(StringRepository.class);
+        EasyMock.expect(direct.find("a")).andStubReturn("b");
+        EasyMock.replay(direct);
+        generic = direct;
+    }
+
+    @Benchmark
+    public String direct() {
+        return direct.find("a");
+    }
+
+    @Benchmark
+    public String bridge() {
+        return generic.find("a");
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.easymock.Capture;
+import org.easymock.EasyMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Calls answered by stubs of a replayed mock. Each call creates an {@code Invocation}, run with {@code -prof gc} to see
+ * what it costs beyond the arguments array of the proxy.
+ */
+@Fork(2)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 4, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class InvocationBenchmark {
+
+    public interface Service {
+        String get(String key);
+
+        int sum(int... values);
+
+        void put(String key);
+    }
+
+    private Service mock;
+
+    private final int[] values = { 1, 2, 3, 4, 5, 6, 7, 8 };
+
+    @Setup
+    public void setup() {
+        mock = EasyMock.mock(Service.class);
+        EasyMock.expect(mock.get(EasyMock.anyString())).andStubReturn("value");
+        EasyMock.expect(mock.sum(values)).andStubReturn(36);
+        mock.put(EasyMock.capture(Capture.newInstance()));
+        EasyMock.expectLastCall().asStub();
+        EasyMock.replay(mock);
+    }
+
+    @Benchmark
+    public String stub() {
+        return mock.get("key");
+    }
+
+    @Benchmark
+    public int primitiveVarargs() {
+        return mock.sum(values);
+    }
+
+    @Benchmark
+    public void capture() {
+        mock.put("key");
+    }
+}
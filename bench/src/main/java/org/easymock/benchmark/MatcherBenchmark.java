@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.benchmark;
+
+import static org.easymock.EasyMock.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.easymock.EasyMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A call only matching the last of many expectations recorded with different matchers. So all the matchers are tried
+ * on each call. Compares the matchers called one by one with the matchers compiled when replaying.
+ */
+@Fork(2)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 4, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MatcherBenchmark {
+
+    public interface Service {
+        int call(Object value, String name);
+    }
+
+    private static final Object SAME = new Object();
+
+    @Param({ "false", "true" })
+    private boolean compiled;
+
+    private Service mock;
+
+    @Setup
+    public void setup() {
+        String previous = EasyMock.setEasyMockProperty(EasyMock.COMPILE_MATCHERS, String.valueOf(compiled));
+        try {
+            mock = mock(Service.class);
+            expect(mock.call(isA(Integer.class), startsWith("a"))).andReturn(1).anyTimes();
+            expect(mock.call(and(notNull(), isA(Long.class)), anyString())).andReturn(2).anyTimes();
+            expect(mock.call(or(same(SAME), isNull()), not(eq("b")))).andReturn(3).anyTimes();
+            expect(mock.call(not(isNull()), and(isA(String.class), endsWith("c")))).andReturn(4).anyTimes();
+            expect(mock.call(anyObject(), or(eq("d"), eq("e")))).andReturn(5).anyTimes();
+            expect(mock.call(isA(String.class), contains("f"))).andReturn(6).anyTimes();
+            expect(mock.call(notNull(), isNull())).andReturn(7).anyTimes();
+            expect(mock.call(and(isA(String.class), not(eq("x"))), startsWith("g"))).andReturn(8).anyTimes();
+            replay(mock);
+        } finally {
+            EasyMock.setEasyMockProperty(EasyMock.COMPILE_MATCHERS, previous);
+        }
+    }
+
+    @Benchmark
+    public int call() {
+        return mock.call("value", "gone");
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.swing.JTable;
+
+import org.easymock.EasyMock;
+import org.easymock.internal.ClassProxyFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creates the first mock of a wide class, like a new JVM would. The mocked class is loaded in a new class loader
+ * each time so its mock class never exists yet.
+ * <ul>
+ *     <li>none: no cache directory, the mock class is generated</li>
+ *     <li>cold: empty cache directory, the mock class is generated and written to the cache</li>
+ *     <li>warm: the mock class is read from the cache directory</li>
+ * </ul>
+ */
+@Fork(2)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MockClassCacheBenchmark {
+
+    public static class Table extends JTable {
+        private static final long serialVersionUID = 1L;
+    }
+
+    @Param({ "none", "cold", "warm" })
+    private String cache;
+
+    private Path directory;
+
+    private Class<?> toMock;
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws Exception {
+        directory = Files.createTempDirectory("easymock");
+        if (!cache.equals("none")) {
+            EasyMock.setEasyMockProperty(EasyMock.MOCK_CLASS_CACHE_DIRECTORY, directory.toString());
+        }
+        if (cache.equals("warm")) {
+            createMock(isolatedClass());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws IOException {
+        EasyMock.setEasyMockProperty(EasyMock.MOCK_CLASS_CACHE_DIRECTORY, null);
+        deleteCachedClasses();
+        Files.delete(directory);
+    }
+
+    @Setup(Level.Invocation)
+    public void setup() throws Exception {
+        if (cache.equals("cold")) {
+            deleteCachedClasses();
+        }
+        toMock = isolatedClass();
+    }
+
+    @Benchmark
+    public Object firstMock() {
+        return createMock(toMock);
+    }
+
+    private static Object createMock(Class<?> toMock) {
+        return new ClassProxyFactory().createProxy(toMock, (proxy, method, args) -> null, null, null);
+    }
+
+    private void deleteCachedClasses() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> {
+                try {
+                    Files.delete(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Load {@link Table} in a new class loader. This benchmark class is loaded again as well since {@link Table}
+     * needs to access it.
+     */
+    private static Class<?> isolatedClass() throws ClassNotFoundException {
+        ClassLoader loader = new ClassLoader(MockClassCacheBenchmark.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String className, boolean resolve) throws ClassNotFoundException {
+                if (!className.startsWith(MockClassCacheBenchmark.class.getName())) {
+                    return super.loadClass(className, resolve);
+                }
+                synchronized (getClassLoadingLock(className)) {
+                    Class<?> c = findLoadedClass(className);
+                    if (c == null) {
+                        byte[] bytes = bytecode(className);
+                        c = defineClass(className, bytes, 0, bytes.length);
+                    }
+                    return c;
+                }
+            }
+        };
+        return loader.loadClass(Table.class.getName());
+    }
+
+    private static byte[] bytecode(String className) throws ClassNotFoundException {
+        try (InputStream in = MockClassCacheBenchmark.class.getResourceAsStream("/" + className.replace('.', '/') + ".class")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new ClassNotFoundException(className, e);
+        }
+    }
+}
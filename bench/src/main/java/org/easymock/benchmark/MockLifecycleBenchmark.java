@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.easymock.EasyMock;
+import org.easymock.EasyMockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the mock lifecycle calls (replay, verify, reset) that all need to find the control of a mock.
+ */
+@Fork(2)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 4, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MockLifecycleBenchmark {
+
+    private List<?> interfaceMock;
+
+    private ArrayList<?> classMock;
+
+    @Setup
+    public void setup() {
+        interfaceMock = EasyMock.mock(List.class);
+        classMock = EasyMock.mock(ArrayList.class);
+    }
+
+    @Benchmark
+    public boolean isAMockInterface() {
+        return EasyMockSupport.isAMock(interfaceMock);
+    }
+
+    @Benchmark
+    public boolean isAMockClass() {
+        return EasyMockSupport.isAMock(classMock);
+    }
+
+    @Benchmark
+    public void lifecycleInterface() {
+        EasyMock.replay(interfaceMock);
+        EasyMock.verify(interfaceMock);
+        EasyMock.reset(interfaceMock);
+    }
+
+    @Benchmark
+    public void lifecycleClass() {
+        EasyMock.replay(classMock);
+        EasyMock.verify(classMock);
+        EasyMock.reset(classMock);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.easymock.EasyMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A nice mock used as a no-op sink. Nothing is recorded for the called methods so they return the empty value. Run
+ * with {@code -prof gc}, the calls shouldn't allocate anything beyond the arguments array of the proxy.
+ */
+@Fork(2)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 4, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class NiceMockBenchmark {
+
+    public interface Listener {
+        void flush();
+
+        int size();
+
+        void log(String message);
+
+        void close();
+    }
+
+    private Listener mock;
+
+    @Setup
+    public void setup() {
+        mock = EasyMock.niceMock(Listener.class);
+        // Something recorded on another method shouldn't matter
+        mock.close();
+        EasyMock.replay(mock);
+    }
+
+    @Benchmark
+    public void voidMethod() {
+        mock.flush();
+    }
+
+    @Benchmark
+    public int intMethod() {
+        return mock.size();
+    }
+
+    @Benchmark
+    public void withArgument() {
+        mock.log("message");
+    }
+}
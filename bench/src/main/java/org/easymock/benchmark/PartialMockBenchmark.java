@@ -0,0 +1,77 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.easymock.EasyMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Calls a real method on a partial mock. It should run as fast as on a real instance.
+ */
+@Fork(2)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 4, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PartialMockBenchmark {
+
+    public static class Calculator {
+        public int add(int a, int b) {
+            return a + b;
+        }
+
+        public int remote() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private Calculator real;
+
+    private Calculator partial;
+
+    private int a = 1;
+
+    private int b = 2;
+
+    @Setup
+    public void setup() {
+        real = new Calculator();
+        partial = EasyMock.partialMockBuilder(Calculator.class).addMockedMethod("remote").createMock();
+        EasyMock.replay(partial);
+    }
+
+    @Benchmark
+    public int real() {
+        return real.add(a, b);
+    }
+
+    @Benchmark
+    public int partialMock() {
+        return partial.add(a, b);
+    }
+}
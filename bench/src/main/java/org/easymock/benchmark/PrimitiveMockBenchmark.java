@@ -0,0 +1,98 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.benchmark;
+
+import static org.easymock.EasyMock.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.easymock.EasyMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Frozen mock of a numeric interface called with values too large to be in the boxing caches. Run with
+ * {@code -prof gc}: a ByteBuddy interface mock passes and matches the primitive argument without boxing it, so
+ * nothing is allocated. A JDK proxy boxes the argument into an array.
+ */
+@Fork(2)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 4, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PrimitiveMockBenchmark {
+
+    public interface PriceFeed {
+        long price(int id);
+
+        double convert(double amount);
+
+        void count(long value);
+    }
+
+    @Param({ "false", "true" })
+    private boolean byteBuddy;
+
+    private PriceFeed mock;
+
+    private int id = 100_000;
+
+    private double amount = 1_000.5;
+
+    private long value = 1_000_000L;
+
+    @Setup
+    public void setup() {
+        String previous = EasyMock.setEasyMockProperty(EasyMock.BYTE_BUDDY_INTERFACE_MOCKING,
+            String.valueOf(byteBuddy));
+        try {
+            mock = niceMock(PriceFeed.class);
+            expect(mock.price(lt(0))).andStubReturn(-1L);
+            expect(mock.price(and(geq(1_000), lt(1_000_000)))).andStubReturn(42L);
+            expect(mock.convert(gt(0.0))).andStubReturn(2.0);
+            mock.count(geq(0L));
+            expectLastCall().asStub();
+            freeze(mock);
+        } finally {
+            EasyMock.setEasyMockProperty(EasyMock.BYTE_BUDDY_INTERFACE_MOCKING, previous);
+        }
+    }
+
+    @Benchmark
+    public long intArgument() {
+        return mock.price(id);
+    }
+
+    @Benchmark
+    public double doubleArgument() {
+        return mock.convert(amount);
+    }
+
+    @Benchmark
+    public void longArgument() {
+        mock.count(value);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.easymock.EasyMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Replays a full strict script and verifies it. The time divided by the number of steps should stay flat when
+ * the script gets longer.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class StrictScriptBenchmark {
+
+    public interface Service {
+        int call(int step);
+    }
+
+    @Param({ "1000", "10000", "100000" })
+    private int steps;
+
+    private Service mock;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        mock = EasyMock.strictMock(Service.class);
+        for (int i = 0; i < steps; i++) {
+            EasyMock.expect(mock.call(i)).andReturn(i);
+        }
+        EasyMock.replay(mock);
+    }
+
+    @Benchmark
+    public int replayAndVerify() {
+        int sum = 0;
+        for (int i = 0; i < steps; i++) {
+            sum += mock.call(i);
+        }
+        EasyMock.verify(mock);
+        return sum;
+    }
+}
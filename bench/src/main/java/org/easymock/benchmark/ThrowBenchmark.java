@@ -0,0 +1,87 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.easymock.EasyMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A mock stubbed to throw, like a failing remote service in a load test. The default fills in the stack trace of the
+ * throwable on each throw, {@link EasyMock#FAST_THROW} throws it as is. A mocked throwable ignores the filling in of
+ * its stack trace.
+ */
+@Fork(2)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 4, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ThrowBenchmark {
+
+    public interface RemoteService {
+        String call(String request) throws TimeoutException;
+
+        String send(String request) throws TimeoutException;
+    }
+
+    @Param({ "false", "true" })
+    private String fastThrow;
+
+    private RemoteService mock;
+
+    @Setup
+    public void setup() throws TimeoutException {
+        EasyMock.setEasyMockProperty(EasyMock.FAST_THROW, fastThrow);
+        mock = EasyMock.mock(RemoteService.class);
+        EasyMock.expect(mock.call(EasyMock.anyString())).andStubThrow(new TimeoutException("timeout"));
+        TimeoutException mockedException = EasyMock.niceMock(TimeoutException.class);
+        EasyMock.expect(mock.send(EasyMock.anyString())).andStubThrow(mockedException);
+        EasyMock.replay(mock, mockedException);
+    }
+
+    @Benchmark
+    public Throwable stubThrow() {
+        try {
+            mock.call("request");
+            throw new IllegalStateException("Should have thrown");
+        } catch (TimeoutException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Throwable stubThrowMockedException() {
+        try {
+            mock.send("request");
+            throw new IllegalStateException("Should have thrown");
+        } catch (TimeoutException e) {
+            return e;
+        }
+    }
+}
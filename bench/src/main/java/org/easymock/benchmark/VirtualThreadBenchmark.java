@@ -0,0 +1,89 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.benchmark;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.easymock.EasyMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One million virtual threads each calling a mock, like async service tests do. Each thread starts without any
+ * EasyMock state so it measures what is created per thread. Virtual threads need Java 21, they are created by
+ * reflection so the module still compiles for older versions, which use a pool of platform threads instead. Run with
+ * {@code -prof gc} to see the allocations.
+ */
+@Fork(value = 2, jvmArgsAppend = "-Xmx1g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class VirtualThreadBenchmark {
+
+    private static final int THREAD_COUNT = 1_000_000;
+
+    public interface Service {
+        String get(String key);
+    }
+
+    private Service mock;
+
+    @Setup
+    public void setup() {
+        mock = EasyMock.mock(Service.class);
+        EasyMock.expect(mock.get(EasyMock.anyString())).andStubReturn("value");
+        EasyMock.replay(mock);
+    }
+
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    @Benchmark
+    public long millionThreads() throws InterruptedException {
+        LongAdder answered = new LongAdder();
+        ExecutorService executor = newExecutor();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executor.execute(() -> {
+                if (mock.get("key") != null) {
+                    answered.increment();
+                }
+            });
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Calls not done after a minute");
+        }
+        return answered.sum();
+    }
+}
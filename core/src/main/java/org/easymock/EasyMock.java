@@ -54,6 +54,67 @@ public class EasyMock {
      */
     public static final String DISABLE_CLASS_MOCKING = "easymock.disableClassMocking";
 
+    /**
+     * Directory where the generated class mocks are kept between runs. The next JVM mocking the same class will load
+     * the mock class from there instead of generating it again. Nothing is kept if not set. The directory is created if
+     * needed and can be shared by many JVMs.
+     */
+    public static final String MOCK_CLASS_CACHE_DIRECTORY = "easymock.mockClassCacheDirectory";
+
+    /**
+     * Interface mocks are JDK proxies by default. Turn this to true to generate them with ByteBuddy instead. The
+     * {@code Object} methods of the mocks are then answered without going through the invocation handler but the
+     * first mock of each interface is slower to create.
+     */
+    public static final String BYTE_BUDDY_INTERFACE_MOCKING = "easymock.byteBuddyInterfaceMocking";
+
+    /**
+     * By default, a thread-safe mock is locked during each call. Turn this to true to replay unordered expectations and
+     * stubs without locking so many threads can call the same mocks at the same time. Strict expectations are still
+     * replayed one call at a time. Can't be combined with {@link #PER_THREAD_REPLAY} or {@link #JOURNAL_REPLAY}.
+     */
+    public static final String CONCURRENT_REPLAY = "easymock.concurrentReplay";
+
+    /**
+     * Turn this to true to compile the argument matchers of each expectation into a single {@code MethodHandle}
+     * predicate when replaying. The JIT can then inline the matching of the well-known matchers. It makes
+     * {@code replay()} slower so it only pays off when many calls are replayed.
+     */
+    public static final String COMPILE_MATCHERS = "easymock.compileMatchers";
+
+    /**
+     * Turn this to true to throw the throwables given to {@code andThrow} and {@code andStubThrow} as they are. By
+     * default, their stack trace is filled again each time they are thrown so it shows the call to the mock. That's
+     * the main cost of throwing when mocks throw a lot.
+     */
+    public static final String FAST_THROW = "easymock.fastThrow";
+
+    /**
+     * Turn this to true to replay what was recorded separately in each thread calling the mocks. Each thread then has
+     * its own call counts and, for strict mocks, its own order of calls, like if each thread had its own mocks. So the
+     * threads don't share anything while replaying. Verifying checks the calls of every thread. Can't be combined with
+     * {@link #CONCURRENT_REPLAY} or {@link #JOURNAL_REPLAY}.
+     */
+    public static final String PER_THREAD_REPLAY = "easymock.perThreadReplay";
+
+    /**
+     * Turn this to true to answer the calls without checking them while replaying. A call gets the result of the first
+     * expectation matching it, whatever its call count, or the stub or empty value otherwise. So an expectation can
+     * only be recorded again with the same result, like a void call or the same returned value. {@code times()} tells
+     * how many calls are expected. Nothing is counted or
+     * locked, the calls are only kept in a journal per thread. They are checked in bulk by {@code verify()}, which
+     * reports the same failures as a normal replay. Captures are filled when verifying. Can't be combined with
+     * {@link #CONCURRENT_REPLAY} or {@link #PER_THREAD_REPLAY}.
+     */
+    public static final String JOURNAL_REPLAY = "easymock.journalReplay";
+
+    /**
+     * Maximum number of calls kept by the journal of each thread when {@link #JOURNAL_REPLAY} is on. Calls answered by
+     * a stub or the empty value of a nice mock aren't kept. The calls that didn't fit fail the verification. Must be a
+     * positive integer. Default is 1,000,000.
+     */
+    public static final String JOURNAL_CAPACITY = "easymock.journalCapacity";
+
     /**
      * Creates a mock object that implements the given interface, order checking
      * is disabled by default.
@@ -1990,6 +2051,28 @@ public class EasyMock {
         }
     }
 
+    /**
+     * Switches the given mock objects (more exactly: the controls of the mock
+     * objects) to frozen replay mode. Only stubs can have been recorded on
+     * them. See {@link IMocksControl#freeze()}.
+     *
+     * @param mocks
+     *            the mock objects.
+     *
+     * @since ${project.version}
+     */
+    public static void freeze(Object... mocks) {
+        for (int i = 0; i < mocks.length; i++) {
+            try {
+                getControl(mocks[i]).freeze();
+            } catch(RuntimeException e) {
+                throw getRuntimeException(mocks.length, i, e);
+            } catch(AssertionError e) {
+                throw getAssertionError(mocks.length, i, e);
+            }
+        }
+    }
+
     /**
      * Resets the given mock objects (more exactly: the controls of the mock
      * objects). For details, see the EasyMock documentation.
@@ -15,11 +15,11 @@
  */
 package org.easymock;
 
+import org.easymock.internal.ClassMock;
 import org.easymock.internal.Injector;
 import org.easymock.internal.MockBuilder;
 import org.easymock.internal.MocksControl;
 import org.easymock.internal.ObjectMethodsFilter;
-import org.easymock.internal.ReflectionUtils;
 
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
@@ -632,22 +632,13 @@ public class EasyMockSupport {
         if(possibleMock == null) {
             return false;
         }
+        // All generated class mocks implement this marker interface
+        if (possibleMock instanceof ClassMock) {
+            return true;
+        }
         if (Proxy.isProxyClass(possibleMock.getClass())) {
             return (Proxy.getInvocationHandler(possibleMock) instanceof ObjectMethodsFilter);
         }
-        else if(ReflectionUtils.isClassAvailable("net.bytebuddy.ByteBuddy")) {
-            return ObjectMockingHelper.isAClassMock(possibleMock);
-        }
         return false;
     }
-
-    /**
-     * Hides ByteBuddy classes from EasyMockSupport to prevent {@code NoClassDefFoundError} if
-     * ByteBuddy isn't used.
-     */
-    private static class ObjectMockingHelper {
-        public static boolean isAClassMock(Object possibleMock) {
-            return possibleMock.getClass().getSimpleName().contains("$$$EasyMock$");
-        }
-    }
 }
@@ -178,6 +178,23 @@ public interface IMocksControl {
      */
     void replay();
 
+    /**
+     * Switches the control from record mode to a frozen replay mode. Only stubs can have been recorded since there is
+     * nothing to verify. The stubs are compiled into an immutable table so the calls are answered without locking
+     * and, when the answer doesn't depend on the arguments, without allocating anything. So
+     * {@code makeThreadSafe(false)} changes nothing, but {@code checkIsUsedInOneThread(true)} is still enforced. If
+     * the check fails, the control keeps recording.
+     * <p>
+     * The default implementation only calls {@link #replay()}, so implementations predating this method keep working.
+     *
+     * @throws IllegalStateException if expectations other than stubs were recorded
+     *
+     * @since ${project.version}
+     */
+    default void freeze() {
+        replay();
+    }
+
     /**
      * Verifies that all expectations were met and that no unexpected
      * call was performed. It has the same effect as calling {@link #verifyRecording()}
@@ -17,6 +17,8 @@ package org.easymock.internal;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Code taken from the <a href="http://www.springframework.org">Spring
@@ -48,6 +50,17 @@ public final class BridgeMethodResolver {
     // Plus, the code is taken from Spring so we consider it is working
     // So, don't check coverage over the class
 
+    /**
+     * Bridged methods already resolved, grouped by the class declaring the bridge. Resolving is walking the class
+     * hierarchy so it is done only once per bridge. Grouping by class lets the cache go away with the class.
+     */
+    private static final ClassValue<ConcurrentMap<Method, Method>> BRIDGED_METHODS = new ClassValue<ConcurrentMap<Method, Method>>() {
+        @Override
+        protected ConcurrentMap<Method, Method> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     // ///CLOVER:OFF
     private BridgeMethodResolver() {
     }
@@ -73,6 +86,11 @@ public final class BridgeMethodResolver {
             return bridgeMethod;
         }
 
+        return BRIDGED_METHODS.get(bridgeMethod.getDeclaringClass())
+            .computeIfAbsent(bridgeMethod, BridgeMethodResolver::resolveBridgedMethod);
+    }
+
+    private static Method resolveBridgedMethod(Method bridgeMethod) {
         // Gather all methods with matching name and parameter size.
         Method[] methods = getAllDeclaredMethods(bridgeMethod.getDeclaringClass());
         List<Method> candidateMethods = new ArrayList<>(methods.length);
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Everything needed to work with a generated class mock. It is computed once per mock class and then cached.
+ * It prevents looking up the mocking data field reflectively each time we need to get the control of a mock.
+ */
+public final class ClassMockMetadata {
+
+    /**
+     * Name of the field added to each generated class mock to hold its {@link ClassMockingData}
+     */
+    public static final String CALLBACK_FIELD = "$callback";
+
+    private static final ClassValue<ClassMockMetadata> METADATA = new ClassValue<ClassMockMetadata>() {
+        @Override
+        protected ClassMockMetadata computeValue(Class<?> type) {
+            return new ClassMockMetadata(type);
+        }
+    };
+
+    private final MethodHandle callbackGetter;
+
+    private final MethodHandle callbackSetter;
+
+    /**
+     * Handles calling the super method accessors generated in the mock class. They are created the first time a real
+     * method is called, taking an array of arguments like the interceptor receives them.
+     */
+    private final ConcurrentMap<Method, MethodHandle> superMethods = new ConcurrentHashMap<>();
+
+    private ClassMockMetadata(Class<?> mockClass) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            callbackGetter = lookup.findGetter(mockClass, CALLBACK_FIELD, ClassMockingData.class)
+                .asType(MethodType.methodType(ClassMockingData.class, Object.class));
+            callbackSetter = lookup.findSetter(mockClass, CALLBACK_FIELD, ClassMockingData.class)
+                .asType(MethodType.methodType(void.class, Object.class, ClassMockingData.class));
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the metadata of a generated class mock.
+     *
+     * @param mockClass class of the mock
+     * @return the metadata of this class
+     */
+    public static ClassMockMetadata of(Class<?> mockClass) {
+        return METADATA.get(mockClass);
+    }
+
+    @IgnoreAnimalSniffer // It reports errors on MethodHandle.invokeExact
+    public ClassMockingData getMockingData(Object mock) {
+        try {
+            return (ClassMockingData) callbackGetter.invokeExact(mock);
+        } catch (Error | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @IgnoreAnimalSniffer // It reports errors on MethodHandle.invokeExact
+    public void setMockingData(Object mock, ClassMockingData mockingData) {
+        try {
+            callbackSetter.invokeExact(mock, mockingData);
+        } catch (Error | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Call the real implementation of a method of a mock.
+     *
+     * @param superMethod accessor generated in the mock class to call the super method
+     * @param mock the mock
+     * @param args the arguments of the call
+     * @return what the real method returned, null for a void method
+     * @throws Throwable what the real method threw
+     */
+    @IgnoreAnimalSniffer // It reports errors on MethodHandle.invokeExact
+    public Object invokeSuper(Method superMethod, Object mock, Object[] args) throws Throwable {
+        return (Object) superMethods.computeIfAbsent(superMethod, ClassMockMetadata::superMethodHandle)
+            .invokeExact(mock, args);
+    }
+
+    private static MethodHandle superMethodHandle(Method superMethod) {
+        try {
+            return MethodHandles.lookup().unreflect(superMethod)
+                .asSpreader(Object[].class, superMethod.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
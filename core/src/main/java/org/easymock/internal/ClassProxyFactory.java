@@ -20,6 +20,7 @@ import net.bytebuddy.TypeCache;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.SyntheticState;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassInjector;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
@@ -30,7 +31,7 @@ import net.bytebuddy.implementation.bind.annotation.FieldValue;
 import net.bytebuddy.implementation.bind.annotation.Origin;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
 import net.bytebuddy.implementation.bind.annotation.StubValue;
-import net.bytebuddy.implementation.bind.annotation.SuperCall;
+import net.bytebuddy.implementation.bind.annotation.SuperMethod;
 import net.bytebuddy.implementation.bind.annotation.This;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.ElementMatchers;
@@ -40,13 +41,17 @@ import org.easymock.internal.classinfoprovider.DefaultClassInfoProvider;
 import org.easymock.internal.classinfoprovider.JdkClassInfoProvider;
 
 import java.io.Serializable;
-import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.concurrent.Callable;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -56,9 +61,9 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class ClassProxyFactory implements IProxyFactory {
 
-    private static final String CALLBACK_FIELD = "$callback";
-    private static final ClassInfoProvider[] defaultClassInfoProviders = { new DefaultClassInfoProvider() , new JdkClassInfoProvider() };
-    private static final ClassInfoProvider[] jdkClassInfoProviders = { defaultClassInfoProviders[1], defaultClassInfoProviders[0] };
+    private static final String CALLBACK_FIELD = ClassMockMetadata.CALLBACK_FIELD;
+    static final ClassInfoProvider[] defaultClassInfoProviders = { new DefaultClassInfoProvider() , new JdkClassInfoProvider() };
+    static final ClassInfoProvider[] jdkClassInfoProviders = { defaultClassInfoProviders[1], defaultClassInfoProviders[0] };
 
     public static class MockMethodInterceptor implements Serializable {
 
@@ -67,21 +72,20 @@ public class ClassProxyFactory implements IProxyFactory {
         @SuppressWarnings("unused")
         @RuntimeType
         @BindingPriority(BindingPriority.DEFAULT * 2)
-        public static Object interceptSuperCallable(
+        public static Object interceptSuper(
             @This Object obj,
             @FieldValue(CALLBACK_FIELD) ClassMockingData mockingData,
             @Origin Method method,
             @AllArguments Object[] args,
-            @SuperCall(serializableProxy = true) Callable<?> superCall) throws Throwable {
+            @SuperMethod Method superMethod) throws Throwable {
 
             // Here I need to check if the fillInStackTrace was called by EasyMock inner code
             // If it's the case, just ignore the call. We ignore it for two reasons
             // 1- In Java 7, the fillInStackTrace won't work because, since no constructor was called, the stackTrace attribute is null
             // 2- There might be some unexpected side effect in the original fillInStackTrace. So it seems more logical to ignore the call
-            if (obj instanceof Throwable && method.getName().equals("fillInStackTrace")) {
-                if(isCallerMockInvocationHandlerInvoke(new Throwable())) {
-                    return obj;
-                }
+            if (obj instanceof Throwable && method.getName().equals("fillInStackTrace")
+                    && MockInvocationHandler.isFillingInStackTrace()) {
+                return obj;
             }
 
             // Bridges should delegate to their bridged method. It should be done before
@@ -101,10 +105,13 @@ public class ClassProxyFactory implements IProxyFactory {
             // so, we have mockingData in thread-local to cover that case
             mockingData = mockingData(mockingData);
             if (mockingData != null && mockingData.isMocked(method)) {
+                // The argument array and the Invocation created by the handler are all a mocked call allocates
                 return mockingData.handler().invoke(obj, method, args);
             }
 
-            return superCall.call();
+            // The accessor is a method of the mock class, so no auxiliary class is generated and nothing is allocated
+            // unless the real method is called
+            return ClassMockMetadata.of(superMethod.getDeclaringClass()).invokeSuper(superMethod, obj, args);
         }
 
         private static ClassMockingData mockingData(ClassMockingData mockingData) {
@@ -134,15 +141,44 @@ public class ClassProxyFactory implements IProxyFactory {
 
     private static final ThreadLocal<ClassMockingData> currentData = new ThreadLocal<>();
 
-    private final TypeCache<Class<?>> typeCache = new TypeCache.WithInlineExpunction<>();
+    /**
+     * Key of the type cache. A partial mock class only intercepts its mocked methods so it can't be shared with the
+     * mock classes of the same type having other mocked methods.
+     */
+    private static final class MockClassKey {
+
+        private final Class<?> toMock;
+
+        /**
+         * Mocked methods. Null if everything is mocked.
+         */
+        private final Set<Method> mockedMethods;
+
+        MockClassKey(Class<?> toMock, Method[] mockedMethods) {
+            this.toMock = toMock;
+            this.mockedMethods = mockedMethods == null ? null : new HashSet<>(Arrays.asList(mockedMethods));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            MockClassKey that = (MockClassKey) o;
+            return toMock == that.toMock && Objects.equals(mockedMethods, that.mockedMethods);
+        }
 
-    public static boolean isCallerMockInvocationHandlerInvoke(Throwable e) {
-        StackTraceElement[] elements = e.getStackTrace();
-        return elements.length > 2
-                && elements[2].getClassName().equals(MockInvocationHandler.class.getName())
-                && elements[2].getMethodName().equals("invoke");
+        @Override
+        public int hashCode() {
+            return 31 * toMock.hashCode() + Objects.hashCode(mockedMethods);
+        }
     }
 
+    private final TypeCache<MockClassKey> typeCache = new TypeCache.WithInlineExpunction<>();
+
     @Override
     public <T> T createProxy(final Class<T> toMock, InvocationHandler handler, Method[] mockedMethods, ConstructorArgs args) {
         RuntimeException exception = null;
@@ -163,21 +199,37 @@ public class ClassProxyFactory implements IProxyFactory {
         throw exception;
     }
 
-    @IgnoreAnimalSniffer // It reports errors on MethodHandle.invoke
     private <T> T doCreateProxy(Class<T> toMock, InvocationHandler handler, ClassInfoProvider provider,
                                 Method[] mockedMethods, ConstructorArgs args) {
-        ElementMatcher.Junction<MethodDescription> junction = ElementMatchers.any();
+        ElementMatcher.Junction<MethodDescription> junction = interceptedMethods(toMock, mockedMethods);
 
         ClassLoader classLoader = provider.classLoader(toMock);
-        Class<?> mockClass = typeCache.findOrInsert(classLoader, toMock,  () -> {
+        Class<?> mockClass = typeCache.findOrInsert(classLoader, new MockClassKey(toMock, mockedMethods),  () -> {
+
+                MockClassCache cache = MockClassCache.getInstance();
+                String key = cache == null ? null : cache.key(toMock, mockedMethods, provider.classPackage(toMock));
+                String name = provider.classPackage(toMock) + toMock.getSimpleName() + "$$$EasyMock$"
+                    + (key == null ? String.valueOf(id.incrementAndGet()) : key);
+
+                if (key != null) {
+                    Class<?> cached = loadCachedClass(cache, toMock, name, classLoader);
+                    if (cached != null) {
+                        return cached;
+                    }
+                }
 
                 try (DynamicType.Unloaded<T> unloaded = new ByteBuddy()
                     .subclass(toMock)
-                    .name(provider.classPackage(toMock) + toMock.getSimpleName() + "$$$EasyMock$" + id.incrementAndGet())
+                    .name(name)
+                    .implement(ClassMock.class)
                     .defineField(CALLBACK_FIELD, ClassMockingData.class, SyntheticState.SYNTHETIC, Visibility.PUBLIC)
                     .method(junction)
                     .intercept(MethodDelegation.to(MockMethodInterceptor.class))
                     .make()) {
+                    // A class needing more than its own bytes to work can't be reloaded from the cache
+                    if (key != null && unloaded.getAuxiliaries().isEmpty() && !unloaded.hasAliveLoadedTypeInitializers()) {
+                        cache.write(name, unloaded.getBytes());
+                    }
                     return unloaded
                         .load(classLoader, classLoadingStrategy())
                         .getLoaded();
@@ -231,19 +283,70 @@ public class ClassProxyFactory implements IProxyFactory {
             }
         }
 
-        MethodHandle callbackField = getCallbackSetter(mock);
-        try {
-            callbackField.invoke(mock, classMockingData);
-        } catch (Error | RuntimeException e) {
-            throw e;
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        }
+        ClassMockMetadata.of(mockClass).setMockingData(mock, classMockingData);
 
         return mock;
     }
 
-    private static <T> boolean isJdkClassOrWithoutPackage(Class<T> toMock) {
+    /**
+     * Methods to override in the mock class. Everything is overridden for a full mock. For a partial mock, only the
+     * mocked methods and the ones that can't call a real implementation are, so the other methods run without any
+     * interception. The interceptor still checks {@link ClassMockingData#isMocked(Method)}, methods are only matched by
+     * signature here.
+     *
+     * @param toMock the mocked class
+     * @param mockedMethods the mocked methods, null if everything is mocked
+     * @return matcher of the methods to intercept
+     */
+    private static ElementMatcher.Junction<MethodDescription> interceptedMethods(Class<?> toMock, Method[] mockedMethods) {
+        if (mockedMethods == null) {
+            return ElementMatchers.any();
+        }
+        // Bridges are kept since a visibility bridge calls the bridged method with a super call that wouldn't be intercepted
+        ElementMatcher.Junction<MethodDescription> junction = ElementMatchers.<MethodDescription>isAbstract()
+            .or(ElementMatchers.isBridge());
+        if (Throwable.class.isAssignableFrom(toMock)) {
+            // See the interceptor, EasyMock's own calls to fillInStackTrace are always ignored
+            junction = junction.or(ElementMatchers.named("fillInStackTrace"));
+        }
+        for (Method method : mockedMethods) {
+            junction = junction.or(ElementMatchers.named(method.getName())
+                .and(ElementMatchers.takesArguments(method.getParameterTypes())));
+        }
+        return junction;
+    }
+
+    /**
+     * Find a mock class previously generated with this cached name. Cached names are the same in each JVM, so the class
+     * might already be in the class loader. Otherwise, it is defined from the bytes on disk.
+     *
+     * @param cache the mock class cache
+     * @param toMock the mocked class
+     * @param name the name of the mock class
+     * @param classLoader the class loader the mock class goes in
+     * @return the mock class or null if it needs to be generated
+     */
+    private Class<?> loadCachedClass(MockClassCache cache, Class<?> toMock, String name, ClassLoader classLoader) {
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            // Not loaded yet
+        }
+        byte[] bytes = cache.read(name);
+        if (bytes == null) {
+            return null;
+        }
+        TypeDescription type = new TypeDescription.Latent(name, Modifier.PUBLIC,
+            TypeDescription.Generic.OfNonGenericType.ForLoadedType.of(toMock));
+        try {
+            return classLoadingStrategy().load(classLoader, Collections.singletonMap(type, bytes)).get(type);
+        } catch (RuntimeException | LinkageError e) {
+            // Corrupted or outdated cache entry, forget about it and generate the class again
+            return null;
+        }
+    }
+
+    static <T> boolean isJdkClassOrWithoutPackage(Class<T> toMock) {
         // null class loader means we are from the bootstrap class loader, the mocks will go in another package in class loader
         // we need to verify for null since some dynamic classes have no package
         // and I still verify for .java, which isn't perfect but a start, for classes hacked to another class loader like PowerMock does
@@ -256,7 +359,7 @@ public class ClassProxyFactory implements IProxyFactory {
         return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("com.sun.") || name.startsWith("jdk.");
     }
 
-    private ClassLoadingStrategy<ClassLoader> classLoadingStrategy() {
+    static ClassLoadingStrategy<ClassLoader> classLoadingStrategy() {
         if (ClassInjector.UsingUnsafe.isAvailable()) {
             return new ClassLoadingStrategy.ForUnsafeInjection();
         }
@@ -267,34 +370,6 @@ public class ClassProxyFactory implements IProxyFactory {
 
     @Override
     public InvocationHandler getInvocationHandler(Object mock) {
-        return getMockingData(mock).handler();
-    }
-
-    @IgnoreAnimalSniffer
-    private static ClassMockingData getMockingData(Object mock) {
-        MethodHandle field = getCallbackGetter(mock);
-        try {
-            return (ClassMockingData) field.invoke(mock);
-        } catch (Error | RuntimeException e) {
-            throw e;
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private static MethodHandle getCallbackGetter(Object mock) {
-        try {
-            return MethodHandles.lookup().findGetter(mock.getClass(), CALLBACK_FIELD, ClassMockingData.class);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private static MethodHandle getCallbackSetter(Object mock) {
-        try {
-            return MethodHandles.lookup().findSetter(mock.getClass(), CALLBACK_FIELD, ClassMockingData.class);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        return ClassMockMetadata.of(mock.getClass()).getMockingData(mock).handler();
     }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Behavior letting many threads replay the same mocks at the same time. Unordered expectations are claimed with a CAS
+ * on their call count and stubs are never modified while replaying, so these calls don't lock. Strict expectations,
+ * moving to the next group of expectations and unexpected calls still need the lock.
+ */
+public class ConcurrentMocksBehavior extends MocksBehavior {
+
+    private static final long serialVersionUID = -3519227536093466432L;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public ConcurrentMocksBehavior(boolean nice) {
+        super(nice);
+    }
+
+    @Override
+    public Result addActual(Invocation actual) {
+        List<UnorderedBehavior> behaviorLists = getBehaviorLists();
+        int index = getPosition();
+
+        boolean onlyStubsLeft = behaviorLists.isEmpty();
+        if (index < behaviorLists.size()) {
+            UnorderedBehavior current = behaviorLists.get(index);
+            if (!current.isCheckOrder()) {
+                Result result = current.addActual(actual);
+                if (result != null) {
+                    return result;
+                }
+                // The next behavior list can only be tried if this one is satisfied. That's moving the position so
+                // it's done under the lock
+                onlyStubsLeft = index == behaviorLists.size() - 1 || !current.verify();
+            }
+        }
+
+        if (onlyStubsLeft) {
+            Result stubOrNice = getStubOrNiceResult(actual);
+            if (stubOrNice != null) {
+                return stubOrNice;
+            }
+        }
+
+        lock.lock();
+        try {
+            return super.addActual(actual);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return true;
+    }
+}
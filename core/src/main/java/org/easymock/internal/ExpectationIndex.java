@@ -0,0 +1,243 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import org.easymock.IArgumentMatcher;
+import org.easymock.internal.matchers.Equals;
+import org.easymock.internal.matchers.Same;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Index of entries by the invocation they expect. Like {@link MockMethodIndex}, only the entries recorded on the
+ * invoked mock and method are candidates. On top of that, the arguments expected with {@link Equals} or {@link Same}
+ * are hashed. So a call only looks at the entries expecting the same values for these arguments. The other matchers
+ * can't be hashed, so they accept any value as far as the index is concerned.
+ * <p>
+ * Hashes can collide, so the candidates returned still need to be matched. They are returned in registration order to
+ * preserve the first-match semantic.
+ * <p>
+ * The index isn't serializable since {@link Method} isn't. Its owner is expected to rebuild it after deserialization.
+ *
+ * @param <E> type of the indexed entries
+ */
+public final class ExpectationIndex<E> {
+
+    private final Map<Object, Map<Method, MethodEntries<E>>> entries = new IdentityHashMap<>(2);
+
+    /**
+     * Add an entry after all the entries already indexed for this mock and method.
+     *
+     * @param expected the expected invocation of the entry
+     * @param entry the entry to index
+     */
+    public void add(ExpectedInvocation expected, E entry) {
+        entries.computeIfAbsent(expected.getMock(), m -> new HashMap<>(2))
+            .computeIfAbsent(expected.getMethod(), m -> new MethodEntries<>())
+            .add(expected.getMatchers(), entry);
+    }
+
+    /**
+     * Returns the entries that might match this invocation in registration order. The list is random access so it
+     * can be walked by index without allocating an iterator.
+     *
+     * @param actual the actual invocation
+     * @return the candidates. Never null
+     */
+    public List<E> get(Invocation actual) {
+        Map<Method, MethodEntries<E>> methods = entries.get(actual.getMock());
+        if (methods == null) {
+            return Collections.emptyList();
+        }
+        MethodEntries<E> method = methods.get(actual.getMethod());
+        return method == null ? Collections.emptyList() : method.get(actual.getArguments());
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Entries of one mock and method, grouped by shape. A shape tells how each argument is hashed. Most of the time,
+     * all expectations of a method are recorded the same way, so there is only one shape.
+     */
+    private static final class MethodEntries<E> {
+
+        private final List<Shape<E>> shapes = new ArrayList<>(1);
+
+        private int count;
+
+        void add(List<IArgumentMatcher> matchers, E entry) {
+            byte[] kinds = new byte[matchers.size()];
+            Object[] values = new Object[kinds.length];
+            for (int i = 0; i < kinds.length; i++) {
+                IArgumentMatcher matcher = matchers.get(i);
+                // Exact classes only, subclasses like ArrayEquals have a matching not consistent with hashCode()
+                if (matcher.getClass() == Equals.class) {
+                    Object expected = ((Equals) matcher).getExpected();
+                    if (expected == null || ExpectedInvocation.hasConsistentHashCode(expected.getClass())) {
+                        kinds[i] = Shape.EQUAL;
+                        values[i] = expected;
+                    }
+                } else if (matcher.getClass() == Same.class) {
+                    kinds[i] = Shape.SAME;
+                    values[i] = ((Same) matcher).getExpected();
+                }
+            }
+            shape(kinds).add(Shape.hash(kinds, values), count++, entry);
+        }
+
+        private Shape<E> shape(byte[] kinds) {
+            for (Shape<E> shape : shapes) {
+                if (Arrays.equals(shape.kinds, kinds)) {
+                    return shape;
+                }
+            }
+            Shape<E> shape = new Shape<>(kinds);
+            shapes.add(shape);
+            return shape;
+        }
+
+        List<E> get(Object[] arguments) {
+            if (shapes.size() == 1) {
+                Bucket<E> bucket = shapes.get(0).get(arguments);
+                return bucket == null ? Collections.emptyList() : bucket.entries;
+            }
+            List<Bucket<E>> buckets = new ArrayList<>(shapes.size());
+            int size = 0;
+            for (Shape<E> shape : shapes) {
+                Bucket<E> bucket = shape.get(arguments);
+                if (bucket != null) {
+                    buckets.add(bucket);
+                    size += bucket.entries.size();
+                }
+            }
+            if (buckets.isEmpty()) {
+                return Collections.emptyList();
+            }
+            if (buckets.size() == 1) {
+                return buckets.get(0).entries;
+            }
+            return merge(buckets, size);
+        }
+
+        private static <E> List<E> merge(List<Bucket<E>> buckets, int size) {
+            List<E> result = new ArrayList<>(size);
+            int[] positions = new int[buckets.size()];
+            for (int i = 0; i < size; i++) {
+                int next = -1;
+                for (int b = 0; b < positions.length; b++) {
+                    Bucket<E> bucket = buckets.get(b);
+                    if (positions[b] < bucket.entries.size()
+                            && (next < 0 || bucket.order(positions[b]) < buckets.get(next).order(positions[next]))) {
+                        next = b;
+                    }
+                }
+                result.add(buckets.get(next).entries.get(positions[next]++));
+            }
+            return result;
+        }
+    }
+
+    private static final class Shape<E> {
+
+        /** The argument can be anything */
+        static final byte ANY = 0;
+
+        /** The argument is hashed with {@code hashCode()} */
+        static final byte EQUAL = 1;
+
+        /** The argument is hashed with its identity */
+        static final byte SAME = 2;
+
+        final byte[] kinds;
+
+        private final Map<Integer, Bucket<E>> buckets = new HashMap<>(2);
+
+        /** The first bucket created, returned without iterating the map when it is the only one */
+        private Bucket<E> first;
+
+        Shape(byte[] kinds) {
+            this.kinds = kinds;
+        }
+
+        void add(int hash, int order, E entry) {
+            Bucket<E> bucket = buckets.computeIfAbsent(hash, h -> new Bucket<>());
+            if (first == null) {
+                first = bucket;
+            }
+            bucket.add(order, entry);
+        }
+
+        Bucket<E> get(Object[] arguments) {
+            if (arguments.length != kinds.length) {
+                return null;
+            }
+            // The candidates are matched anyway, no need to hash when there is only one bucket
+            if (buckets.size() == 1) {
+                return first;
+            }
+            for (int i = 0; i < kinds.length; i++) {
+                // An expected value having a consistent hashCode() is only equal to values of the same class
+                Object argument = arguments[i];
+                if (kinds[i] == EQUAL && argument != null
+                        && !ExpectedInvocation.hasConsistentHashCode(argument.getClass())) {
+                    return null;
+                }
+            }
+            return buckets.get(hash(kinds, arguments));
+        }
+
+        static int hash(byte[] kinds, Object[] values) {
+            int result = 1;
+            for (int i = 0; i < kinds.length; i++) {
+                if (kinds[i] == EQUAL) {
+                    result = 31 * result + Objects.hashCode(values[i]);
+                } else if (kinds[i] == SAME) {
+                    result = 31 * result + System.identityHashCode(values[i]);
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class Bucket<E> {
+
+        final List<E> entries = new ArrayList<>(1);
+
+        private int[] orders = new int[1];
+
+        void add(int order, E entry) {
+            if (entries.size() == orders.length) {
+                orders = Arrays.copyOf(orders, orders.length * 2);
+            }
+            orders[entries.size()] = order;
+            entries.add(entry);
+        }
+
+        int order(int position) {
+            return orders[position];
+        }
+    }
+}
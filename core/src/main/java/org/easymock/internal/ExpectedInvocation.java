@@ -16,10 +16,13 @@
 package org.easymock.internal;
 
 import org.easymock.IArgumentMatcher;
+import org.easymock.internal.matchers.Any;
 import org.easymock.internal.matchers.ArrayEquals;
 import org.easymock.internal.matchers.Equals;
+import org.easymock.internal.matchers.MatcherCompiler;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -38,6 +41,11 @@ public final class ExpectedInvocation implements Serializable {
 
     private final List<IArgumentMatcher> matchers;
 
+    /**
+     * The matchers compiled into a single predicate, null if they were not compiled
+     */
+    private transient volatile MethodHandle predicate;
+
     public ExpectedInvocation(Invocation invocation, List<IArgumentMatcher> matchers) {
         this.invocation = invocation;
         this.matchers = createMissingMatchers(invocation, matchers);
@@ -85,7 +93,46 @@ public final class ExpectedInvocation implements Serializable {
 
     @Override
     public int hashCode() {
-        throw new UnsupportedOperationException("hashCode() is not implemented");
+        int result = invocation.hashCode();
+        for (IArgumentMatcher matcher : matchers) {
+            result = 31 * result + matcherHashCode(matcher);
+        }
+        return result;
+    }
+
+    /**
+     * Matchers don't implement {@code hashCode()}. However, when recording with matchers, the arguments of the
+     * invocation are all default values so they won't spread the expectations at all. So we hash the value of the
+     * {@code Equals} matchers when this value is immutable, and we know its {@code hashCode()} is consistent with
+     * {@code equals()}. All the other matchers are left to {@link #equals(Object)}.
+     *
+     * @param matcher the matcher to hash
+     * @return the hash code of the matcher or 0 if it can't be hashed safely
+     */
+    private static int matcherHashCode(IArgumentMatcher matcher) {
+        if (matcher.getClass() != Equals.class) {
+            return 0;
+        }
+        Object expected = ((Equals) matcher).getExpected();
+        if (expected == null) {
+            return 0;
+        }
+        if (hasConsistentHashCode(expected.getClass())) {
+            return expected.hashCode();
+        }
+        return 0;
+    }
+
+    /**
+     * Tells if the values of this type are immutable with a {@code hashCode()} consistent with {@code equals()}. Such
+     * a value is also only equal to values of the same type.
+     *
+     * @param type the type of the value
+     * @return if the values of this type can be hashed safely
+     */
+    static boolean hasConsistentHashCode(Class<?> type) {
+        return type == String.class || type.isEnum() || PrimitiveUtils.isPrimitiveWrapper(type)
+                || type == Boolean.class || type == Character.class;
     }
 
     /**
@@ -100,7 +147,38 @@ public final class ExpectedInvocation implements Serializable {
                 && this.invocation.getMethod().equals(actual.getMethod()) && matches(actual.getArguments());
     }
 
+    /**
+     * Tells if any call of this method on this mock matches. The arguments don't need to be looked at in that case.
+     *
+     * @return if all the arguments are matched by {@code any}
+     */
+    public boolean matchesAnyArguments() {
+        // The arguments of a varargs call are expanded so their number varies
+        if (MethodInfo.of(invocation.getMethod()).isVarArgs()) {
+            return false;
+        }
+        for (IArgumentMatcher matcher : matchers) {
+            if (!(matcher instanceof Any)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compiles the matchers into a single predicate used from now on to match the arguments.
+     */
+    public void compileMatchers() {
+        if (predicate == null) {
+            predicate = MatcherCompiler.compile(matchers);
+        }
+    }
+
     private boolean matches(Object[] arguments) {
+        MethodHandle predicate = this.predicate;
+        if (predicate != null) {
+            return matches(predicate, arguments);
+        }
         if (arguments.length != matchers.size()) {
             return false;
         }
@@ -112,6 +190,17 @@ public final class ExpectedInvocation implements Serializable {
         return true;
     }
 
+    @IgnoreAnimalSniffer // It reports errors on MethodHandle.invokeExact
+    private static boolean matches(MethodHandle predicate, Object[] arguments) {
+        try {
+            return (boolean) predicate.invokeExact(arguments);
+        } catch (Error | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public String toString() {
         StringBuffer result = new StringBuffer();
@@ -127,7 +216,15 @@ public final class ExpectedInvocation implements Serializable {
         return result.toString();
     }
 
+    public Object getMock() {
+        return invocation.getMock();
+    }
+
     public Method getMethod() {
         return invocation.getMethod();
     }
+
+    List<IArgumentMatcher> getMatchers() {
+        return matchers;
+    }
 }
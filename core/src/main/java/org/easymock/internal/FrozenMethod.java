@@ -0,0 +1,166 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import org.easymock.IArgumentMatcher;
+import org.easymock.internal.matchers.DoubleArgumentMatcher;
+import org.easymock.internal.matchers.IntArgumentMatcher;
+import org.easymock.internal.matchers.LongArgumentMatcher;
+import org.easymock.internal.matchers.PrimitiveMatchers;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * The stubs of a method of a frozen mock, compiled to answer calls without creating an {@link Invocation}.
+ * <p>
+ * A call can be answered directly when the first stub matches any arguments. For a method taking a single
+ * {@code int}, {@code long} or {@code double}, calls can also be matched without boxing the argument if every stub
+ * has a matcher knowing how to do it and simply returns a value.
+ */
+public final class FrozenMethod {
+
+    /**
+     * Answers any call, null if the arguments need to be matched
+     */
+    private final Result result;
+
+    /**
+     * Matchers of the stubs in registration order, null if the argument can't be matched without boxing
+     */
+    private final IArgumentMatcher[] matchers;
+
+    private final Result[] results;
+
+    /**
+     * Result when no stub matches, null if the call is unexpected
+     */
+    private final Result noMatch;
+
+    private FrozenMethod(Result result, IArgumentMatcher[] matchers, Result[] results, Result noMatch) {
+        this.result = result;
+        this.matchers = matchers;
+        this.results = results;
+        this.noMatch = noMatch;
+    }
+
+    /**
+     * Compiles the stubs of a method.
+     *
+     * @param method the stubbed method
+     * @param stubs the stubs of this method in registration order
+     * @param nice if the mock is nice
+     * @return the compiled stubs
+     */
+    public static FrozenMethod of(Method method, List<ExpectedInvocationAndResult> stubs, boolean nice) {
+        // Only the first stub is ever used when it matches any call
+        ExpectedInvocationAndResult first = stubs.get(0);
+        if (first.getExpectedInvocation().matchesAnyArguments() && first.getResult().isReturning()) {
+            return new FrozenMethod(first.getResult(), null, null, null);
+        }
+        Class<? extends IArgumentMatcher> matcherType = primitiveMatcherType(method);
+        if (matcherType == null) {
+            return new FrozenMethod(null, null, null, null);
+        }
+        IArgumentMatcher[] matchers = new IArgumentMatcher[stubs.size()];
+        Result[] results = new Result[stubs.size()];
+        for (int i = 0; i < matchers.length; i++) {
+            ExpectedInvocationAndResult stub = stubs.get(i);
+            IArgumentMatcher matcher = stub.getExpectedInvocation().getMatchers().get(0);
+            // A nested capture or user matcher needs the boxed argument and the invocation
+            if (!PrimitiveMatchers.isPrimitive(matcher, matcherType) || !stub.getResult().isReturning()) {
+                return new FrozenMethod(null, null, null, null);
+            }
+            matchers[i] = matcher;
+            results[i] = stub.getResult();
+        }
+        return new FrozenMethod(null, matchers, results,
+            nice ? MethodInfo.of(method).getEmptyReturnResult() : null);
+    }
+
+    private static Class<? extends IArgumentMatcher> primitiveMatcherType(Method method) {
+        MethodInfo info = MethodInfo.of(method);
+        if (info.getParameterCount() != 1) {
+            return null;
+        }
+        Class<?> type = info.getParameterTypes()[0];
+        if (type == int.class) {
+            return IntArgumentMatcher.class;
+        }
+        if (type == long.class) {
+            return LongArgumentMatcher.class;
+        }
+        if (type == double.class) {
+            return DoubleArgumentMatcher.class;
+        }
+        return null;
+    }
+
+    /**
+     * @return the result of any call, null if the arguments need to be matched
+     */
+    public Result getResult() {
+        return result;
+    }
+
+    /**
+     * @param actual the argument of the call
+     * @return the result of the call, null if it needs to be replayed with its argument boxed
+     */
+    public Result getResult(int actual) {
+        if (matchers == null) {
+            return result;
+        }
+        for (int i = 0; i < matchers.length; i++) {
+            if (((IntArgumentMatcher) matchers[i]).matches(actual)) {
+                return results[i];
+            }
+        }
+        return noMatch;
+    }
+
+    /**
+     * @param actual the argument of the call
+     * @return the result of the call, null if it needs to be replayed with its argument boxed
+     */
+    public Result getResult(long actual) {
+        if (matchers == null) {
+            return result;
+        }
+        for (int i = 0; i < matchers.length; i++) {
+            if (((LongArgumentMatcher) matchers[i]).matches(actual)) {
+                return results[i];
+            }
+        }
+        return noMatch;
+    }
+
+    /**
+     * @param actual the argument of the call
+     * @return the result of the call, null if it needs to be replayed with its argument boxed
+     */
+    public Result getResult(double actual) {
+        if (matchers == null) {
+            return result;
+        }
+        for (int i = 0; i < matchers.length; i++) {
+            if (((DoubleArgumentMatcher) matchers[i]).matches(actual)) {
+                return results[i];
+            }
+        }
+        return noMatch;
+    }
+}
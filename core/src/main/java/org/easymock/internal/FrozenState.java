@@ -0,0 +1,123 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * Replay state of a frozen control. Only stubs were recorded, so nothing changes while replaying. The stubs are
+ * compiled into an immutable table and the calls they answer without looking at the arguments don't lock, create an
+ * {@link Invocation} or touch {@link LastControl}. The other calls are replayed as usual, without the lock.
+ * <p>
+ * A mock class generated by {@link InterfaceClassProxyFactory} passes the argument of a method taking a single
+ * {@code int}, {@code long} or {@code double} without boxing it. It can then be matched without boxing as well, see
+ * {@link FrozenMethod}.
+ */
+public class FrozenState extends ReplayState {
+
+    private static final long serialVersionUID = 5213893318373926426L;
+
+    private final boolean nice;
+
+    /**
+     * The compiled stubs by mock and method. Rebuilt after deserialization since {@link Method} isn't serializable.
+     */
+    private transient Map<Object, Map<Method, FrozenMethod>> methods;
+
+    public FrozenState(IMocksBehavior behavior, boolean nice) {
+        super(behavior);
+        this.nice = nice;
+        this.methods = behavior.freeze();
+    }
+
+    @Override
+    public Object invoke(Object mock, Method method, Object[] args) throws Throwable {
+        getBehavior().checkThreadSafety();
+        FrozenMethod frozen = getFrozenMethod(mock, method);
+        if (frozen == null) {
+            if (nice) {
+                return MethodInfo.of(method).getEmptyReturnValue();
+            }
+        } else if (frozen.getResult() != null) {
+            return frozen.getResult().answer();
+        }
+        return invoke(new Invocation(mock, method, args));
+    }
+
+    /**
+     * Returns the result of a call taking a single {@code int} without boxing it.
+     *
+     * @param mock the mock called
+     * @param method the method called
+     * @param actual the argument
+     * @return the result, null if the call needs to be replayed with its argument boxed
+     */
+    public Result getResult(Object mock, Method method, int actual) {
+        getBehavior().checkThreadSafety();
+        FrozenMethod frozen = getFrozenMethod(mock, method);
+        return frozen == null ? getUnstubbedResult(method) : frozen.getResult(actual);
+    }
+
+    /**
+     * Returns the result of a call taking a single {@code long} without boxing it.
+     *
+     * @param mock the mock called
+     * @param method the method called
+     * @param actual the argument
+     * @return the result, null if the call needs to be replayed with its argument boxed
+     */
+    public Result getResult(Object mock, Method method, long actual) {
+        getBehavior().checkThreadSafety();
+        FrozenMethod frozen = getFrozenMethod(mock, method);
+        return frozen == null ? getUnstubbedResult(method) : frozen.getResult(actual);
+    }
+
+    /**
+     * Returns the result of a call taking a single {@code double} without boxing it.
+     *
+     * @param mock the mock called
+     * @param method the method called
+     * @param actual the argument
+     * @return the result, null if the call needs to be replayed with its argument boxed
+     */
+    public Result getResult(Object mock, Method method, double actual) {
+        getBehavior().checkThreadSafety();
+        FrozenMethod frozen = getFrozenMethod(mock, method);
+        return frozen == null ? getUnstubbedResult(method) : frozen.getResult(actual);
+    }
+
+    private FrozenMethod getFrozenMethod(Object mock, Method method) {
+        Map<Method, FrozenMethod> mockMethods = methods.get(mock);
+        return mockMethods == null ? null : mockMethods.get(method);
+    }
+
+    private Result getUnstubbedResult(Method method) {
+        return nice ? MethodInfo.of(method).getEmptyReturnResult() : null;
+    }
+
+    private void readObject(java.io.ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        methods = getBehavior().freeze();
+    }
+
+    @Override
+    boolean isLocked() {
+        // Only stubs are read and unexpected calls are kept in a synchronized list, no need to lock
+        return false;
+    }
+}
@@ -15,6 +15,9 @@
  */
 package org.easymock.internal;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+
 /**
  * The behavior of a mock. I.e. ordered or not, thread safe or not, expectations, etc.
  *
@@ -34,12 +37,41 @@ public interface IMocksBehavior {
     void shouldBeUsedInOneThread(boolean shouldBeUsedInOneThread);
 
     // replay
+    /**
+     * Compiles the matchers of everything recorded so far. See {@link org.easymock.EasyMock#COMPILE_MATCHERS}.
+     */
+    void compileMatchers();
+
     Result addActual(Invocation invocation);
 
+    /**
+     * Nothing recorded for a method of a nice mock means a call can only return the empty value. That's known without
+     * creating an {@link Invocation}.
+     *
+     * @param mock the mock called
+     * @param method the method called
+     * @return the shared empty result, null if the mock isn't nice or something was recorded for this method
+     */
+    Result getUnrecordedNiceResult(Object mock, Method method);
+
     boolean isThreadSafe();
 
+    /**
+     * @return if {@link #addActual(Invocation)} can be called concurrently without locking the control
+     */
+    boolean isConcurrent();
+
     void checkThreadSafety();
 
+    // freeze
+    /**
+     * Compiles the stubs of each method so that calls can be answered without creating an {@link Invocation}. Only
+     * stubs can be recorded on a frozen mock since it has nothing to verify.
+     *
+     * @return the compiled stubs by mock and method
+     */
+    Map<Object, Map<Method, FrozenMethod>> freeze();
+
     // verify
     void verifyRecording();
 
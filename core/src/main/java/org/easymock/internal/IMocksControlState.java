@@ -58,6 +58,12 @@ public interface IMocksControlState {
 
     void replay();
 
+    /**
+     * Ends the recording like {@link #replay()} for a frozen replay. Fails without changing anything if an
+     * expectation other than a stub is pending.
+     */
+    void freeze();
+
     void verifyRecording();
 
     void verifyUnexpectedCalls();
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.TypeCache;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.SyntheticState;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.MethodDelegation;
+import net.bytebuddy.implementation.bind.annotation.AllArguments;
+import net.bytebuddy.implementation.bind.annotation.Argument;
+import net.bytebuddy.implementation.bind.annotation.FieldValue;
+import net.bytebuddy.implementation.bind.annotation.Origin;
+import net.bytebuddy.implementation.bind.annotation.RuntimeType;
+import net.bytebuddy.implementation.bind.annotation.This;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.easymock.ConstructorArgs;
+import org.easymock.internal.classinfoprovider.ClassInfoProvider;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory generating interface mocks with ByteBuddy instead of {@link java.lang.reflect.Proxy}. The generated class
+ * extends {@code Object} and implements the mocked interface first, then {@link ClassMock}.
+ * <p>
+ * Unlike a JDK proxy, {@code equals}, {@code hashCode} and {@code toString} are answered by the mock class itself, so
+ * the other calls go straight to the {@link MockInvocationHandler} without being compared to the {@code Object}
+ * methods first. {@code finalize} isn't overridden, like for a JDK proxy. Each intercepted method passes its
+ * {@link Method}, resolved once when the mock class is initialized and kept in a static field, so nothing is looked
+ * up during a call.
+ * <p>
+ * Like a JDK proxy, the mock is serializable. It can only be deserialized where its generated class exists.
+ */
+public class InterfaceClassProxyFactory implements IProxyFactory {
+
+    private static final String CALLBACK_FIELD = ClassMockMetadata.CALLBACK_FIELD;
+
+    public static class InterfaceMockInterceptor {
+
+        @SuppressWarnings("unused")
+        @RuntimeType
+        public static Object intercept(
+            @This Object obj,
+            @FieldValue(CALLBACK_FIELD) ClassMockingData mockingData,
+            @Origin Method method,
+            @AllArguments Object[] args) throws Throwable {
+
+            return ((ObjectMethodsFilter) mockingData.handler()).getDelegate().invoke(obj, method, args);
+        }
+    }
+
+    /**
+     * Passes the argument of a method taking a single {@code int} without boxing it.
+     */
+    public static class IntArgumentInterceptor {
+
+        @SuppressWarnings("unused")
+        @RuntimeType
+        public static Object intercept(
+            @This Object obj,
+            @FieldValue(CALLBACK_FIELD) ClassMockingData mockingData,
+            @Origin Method method,
+            @Argument(0) int actual) throws Throwable {
+
+            return ((ObjectMethodsFilter) mockingData.handler()).getDelegate().invoke(obj, method, actual);
+        }
+    }
+
+    /**
+     * Passes the argument of a method taking a single {@code long} without boxing it.
+     */
+    public static class LongArgumentInterceptor {
+
+        @SuppressWarnings("unused")
+        @RuntimeType
+        public static Object intercept(
+            @This Object obj,
+            @FieldValue(CALLBACK_FIELD) ClassMockingData mockingData,
+            @Origin Method method,
+            @Argument(0) long actual) throws Throwable {
+
+            return ((ObjectMethodsFilter) mockingData.handler()).getDelegate().invoke(obj, method, actual);
+        }
+    }
+
+    /**
+     * Passes the argument of a method taking a single {@code double} without boxing it.
+     */
+    public static class DoubleArgumentInterceptor {
+
+        @SuppressWarnings("unused")
+        @RuntimeType
+        public static Object intercept(
+            @This Object obj,
+            @FieldValue(CALLBACK_FIELD) ClassMockingData mockingData,
+            @Origin Method method,
+            @Argument(0) double actual) throws Throwable {
+
+            return ((ObjectMethodsFilter) mockingData.handler()).getDelegate().invoke(obj, method, actual);
+        }
+    }
+
+    public static class ObjectMethodsInterceptor {
+
+        @SuppressWarnings("unused")
+        public static boolean equals(@This Object obj, @Argument(0) Object other) {
+            return obj == other;
+        }
+
+        @SuppressWarnings("unused")
+        public static int hashCode(@This Object obj) {
+            return System.identityHashCode(obj);
+        }
+
+        @SuppressWarnings("unused")
+        public static String toString(@This Object obj, @FieldValue(CALLBACK_FIELD) ClassMockingData mockingData) {
+            return ((ObjectMethodsFilter) mockingData.handler()).mockToString(obj);
+        }
+    }
+
+    /**
+     * Constructor of each mock class. Only {@code Object}'s constructor is called so no need for Objenesis.
+     */
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> mockClass) {
+            try {
+                return MethodHandles.publicLookup().findConstructor(mockClass, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // ///CLOVER:OFF
+                throw new RuntimeException("Failed to find the constructor of " + mockClass, e);
+                // ///CLOVER:ON
+            }
+        }
+    };
+
+    private static final AtomicInteger id = new AtomicInteger(0);
+
+    private final TypeCache<Class<?>> typeCache = new TypeCache.WithInlineExpunction<>();
+
+    @Override
+    public <T> T createProxy(Class<T> toMock, InvocationHandler handler, Method[] mockedMethods,
+            ConstructorArgs constructorArgs) {
+        RuntimeException exception = null;
+        // Same as for a class, the mock class goes next to the interface unless it's a JDK interface
+        ClassInfoProvider[] providers = ClassProxyFactory.isJdkClassOrWithoutPackage(toMock)
+            ? ClassProxyFactory.jdkClassInfoProviders
+            : ClassProxyFactory.defaultClassInfoProviders;
+        for (ClassInfoProvider provider : providers) {
+            try {
+                return doCreateProxy(toMock, handler, provider);
+            } catch (Throwable e) {
+                if (exception == null) {
+                    exception = new RuntimeException("Failed to mock " + toMock + " with provider " + provider, e);
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+        throw exception;
+    }
+
+    @IgnoreAnimalSniffer // It reports errors on MethodHandle.invokeExact
+    private <T> T doCreateProxy(Class<T> toMock, InvocationHandler handler, ClassInfoProvider provider)
+            throws Throwable {
+        ClassLoader classLoader = provider.classLoader(toMock);
+        Class<?> mockClass = typeCache.findOrInsert(classLoader, toMock, () -> {
+            String name = provider.classPackage(toMock) + toMock.getSimpleName() + "$$$EasyMock$Interface$"
+                + id.incrementAndGet();
+            try (DynamicType.Unloaded<Object> unloaded = new ByteBuddy()
+                .subclass(Object.class)
+                .name(name)
+                // The mocked interface must come first, see MocksControl.getMockedClass
+                .implement(toMock, ClassMock.class)
+                // Serializable like a JDK proxy
+                .implement(Serializable.class)
+                .defineField(CALLBACK_FIELD, ClassMockingData.class, SyntheticState.SYNTHETIC, Visibility.PUBLIC)
+                .method(ElementMatchers.isAbstract().or(ElementMatchers.isDefaultMethod()))
+                .intercept(MethodDelegation.to(InterfaceMockInterceptor.class))
+                .method(mockedWithSingleArgument(int.class))
+                .intercept(MethodDelegation.to(IntArgumentInterceptor.class))
+                .method(mockedWithSingleArgument(long.class))
+                .intercept(MethodDelegation.to(LongArgumentInterceptor.class))
+                .method(mockedWithSingleArgument(double.class))
+                .intercept(MethodDelegation.to(DoubleArgumentInterceptor.class))
+                // Declared last to win over an interface declaring them again
+                .method(ElementMatchers.isEquals())
+                .intercept(objectMethod("equals"))
+                .method(ElementMatchers.isHashCode())
+                .intercept(objectMethod("hashCode"))
+                .method(ElementMatchers.isToString())
+                .intercept(objectMethod("toString"))
+                .make()) {
+                return unloaded
+                    .load(classLoader, ClassProxyFactory.classLoadingStrategy())
+                    .getLoaded();
+            }
+        });
+
+        @SuppressWarnings("unchecked")
+        T mock = (T) (Object) CONSTRUCTORS.get(mockClass).invokeExact();
+        ClassMockMetadata.of(mockClass).setMockingData(mock, new ClassMockingData(handler));
+        return mock;
+    }
+
+    private static ElementMatcher.Junction<MethodDescription> mockedWithSingleArgument(Class<?> type) {
+        return ElementMatchers.isAbstract().or(ElementMatchers.isDefaultMethod())
+            .and(ElementMatchers.takesArguments(type));
+    }
+
+    private static MethodDelegation objectMethod(String name) {
+        return MethodDelegation.withDefaultConfiguration()
+            .filter(ElementMatchers.named(name))
+            .to(ObjectMethodsInterceptor.class);
+    }
+
+    @Override
+    public InvocationHandler getInvocationHandler(Object mock) {
+        return ClassMockMetadata.of(mock.getClass()).getMockingData(mock).handler();
+    }
+}
@@ -19,10 +19,9 @@ import org.easymock.internal.matchers.Captures;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.List;
 
 import static java.lang.Character.*;
 
@@ -43,7 +42,12 @@ public final class Invocation implements Serializable {
 
     private final Object[] arguments;
 
-    private final Collection<Captures<?>> currentCaptures = new ArrayList<>(0);
+    // The captured values are kept here, not in the Captures matchers, since the matchers are shared by the
+    // invocations replayed concurrently. Created on the first capture, most invocations have none
+
+    private List<Captures<Object>> currentCaptures;
+
+    private List<Object> currentCaptureValues;
 
     public Invocation(Object mock, Method method, Object[] args) {
         this.mock = mock;
@@ -55,27 +59,79 @@ public final class Invocation implements Serializable {
         if (!isVarArgs) {
             return args == null ? NO_ARGS : args;
         }
-        if (args[args.length - 1] == null) {
+        int nonVarArgsCount = args.length - 1;
+        Object varArgs = args[nonVarArgsCount];
+        if (varArgs == null) {
             return args;
         }
-        Object[] varArgs = createObjectArray(args[args.length - 1]);
-        int nonVarArgsCount = args.length - 1;
-        int varArgsCount = varArgs.length;
-        Object[] newArgs = new Object[nonVarArgsCount + varArgsCount];
-        System.arraycopy(args, 0, newArgs, 0, nonVarArgsCount);
-        System.arraycopy(varArgs, 0, newArgs, nonVarArgsCount, varArgsCount);
-        return newArgs;
+        if (varArgs instanceof Object[]) {
+            Object[] values = (Object[]) varArgs;
+            Object[] newArgs = newArgs(args, nonVarArgsCount, values.length);
+            System.arraycopy(values, 0, newArgs, nonVarArgsCount, values.length);
+            return newArgs;
+        }
+        return expandPrimitiveVarArgs(args, nonVarArgsCount, varArgs);
     }
 
-    private static Object[] createObjectArray(Object array) {
-        if (array instanceof Object[]) {
-            return (Object[]) array;
-        }
-        Object[] result = new Object[Array.getLength(array)];
-        for (int i = 0; i < Array.getLength(array); i++) {
-            result[i] = Array.get(array, i);
+    // One loop per component type, boxing directly instead of going through the reflective Array.get
+    private static Object[] expandPrimitiveVarArgs(Object[] args, int nonVarArgsCount, Object varArgs) {
+        Object[] newArgs;
+        if (varArgs instanceof int[]) {
+            int[] values = (int[]) varArgs;
+            newArgs = newArgs(args, nonVarArgsCount, values.length);
+            for (int i = 0; i < values.length; i++) {
+                newArgs[nonVarArgsCount + i] = values[i];
+            }
+        } else if (varArgs instanceof long[]) {
+            long[] values = (long[]) varArgs;
+            newArgs = newArgs(args, nonVarArgsCount, values.length);
+            for (int i = 0; i < values.length; i++) {
+                newArgs[nonVarArgsCount + i] = values[i];
+            }
+        } else if (varArgs instanceof double[]) {
+            double[] values = (double[]) varArgs;
+            newArgs = newArgs(args, nonVarArgsCount, values.length);
+            for (int i = 0; i < values.length; i++) {
+                newArgs[nonVarArgsCount + i] = values[i];
+            }
+        } else if (varArgs instanceof boolean[]) {
+            boolean[] values = (boolean[]) varArgs;
+            newArgs = newArgs(args, nonVarArgsCount, values.length);
+            for (int i = 0; i < values.length; i++) {
+                newArgs[nonVarArgsCount + i] = values[i];
+            }
+        } else if (varArgs instanceof byte[]) {
+            byte[] values = (byte[]) varArgs;
+            newArgs = newArgs(args, nonVarArgsCount, values.length);
+            for (int i = 0; i < values.length; i++) {
+                newArgs[nonVarArgsCount + i] = values[i];
+            }
+        } else if (varArgs instanceof char[]) {
+            char[] values = (char[]) varArgs;
+            newArgs = newArgs(args, nonVarArgsCount, values.length);
+            for (int i = 0; i < values.length; i++) {
+                newArgs[nonVarArgsCount + i] = values[i];
+            }
+        } else if (varArgs instanceof short[]) {
+            short[] values = (short[]) varArgs;
+            newArgs = newArgs(args, nonVarArgsCount, values.length);
+            for (int i = 0; i < values.length; i++) {
+                newArgs[nonVarArgsCount + i] = values[i];
+            }
+        } else {
+            float[] values = (float[]) varArgs;
+            newArgs = newArgs(args, nonVarArgsCount, values.length);
+            for (int i = 0; i < values.length; i++) {
+                newArgs[nonVarArgsCount + i] = values[i];
+            }
         }
-        return result;
+        return newArgs;
+    }
+
+    private static Object[] newArgs(Object[] args, int nonVarArgsCount, int varArgsCount) {
+        Object[] newArgs = new Object[nonVarArgsCount + varArgsCount];
+        System.arraycopy(args, 0, newArgs, 0, nonVarArgsCount);
+        return newArgs;
     }
 
     /**
@@ -117,9 +173,22 @@ public final class Invocation implements Serializable {
                 && this.equalArguments(other.arguments);
     }
 
+    /**
+     * Hash code consistent with {@link #equals(Object)}. So the mock and non-primitive arguments are hashed by
+     * identity and the primitive arguments by value.
+     *
+     * @return the hash code of this invocation
+     */
     @Override
     public int hashCode() {
-        throw new UnsupportedOperationException("hashCode() is not implemented");
+        int result = 31 * System.identityHashCode(mock) + method.hashCode();
+        MethodInfo info = MethodInfo.of(method);
+        for (int i = 0; i < arguments.length; i++) {
+            Object argument = arguments[i];
+            int hash = info.isPrimitiveParameter(i) ? argument.hashCode() : System.identityHashCode(argument);
+            result = 31 * result + hash;
+        }
+        return result;
     }
 
     @Override
@@ -131,11 +200,12 @@ public final class Invocation implements Serializable {
         if (this.arguments.length != arguments.length) {
             return false;
         }
+        MethodInfo info = MethodInfo.of(method);
         for (int i = 0; i < this.arguments.length; i++) {
             Object myArgument = this.arguments[i];
             Object otherArgument = arguments[i];
 
-            if (isPrimitiveParameter(i)) {
+            if (info.isPrimitiveParameter(i)) {
                 if (!myArgument.equals(otherArgument)) {
                     return false;
                 }
@@ -148,14 +218,6 @@ public final class Invocation implements Serializable {
         return true;
     }
 
-    private boolean isPrimitiveParameter(int parameterPosition) {
-        Class<?>[] parameterTypes = method.getParameterTypes();
-        if (method.isVarArgs()) {
-            parameterPosition = Math.min(parameterPosition, parameterTypes.length - 1);
-        }
-        return parameterTypes[parameterPosition].isPrimitive();
-    }
-
     public String getMockAndMethodName() {
         String methodName = method.getName();
         // This can occur when using PowerMock. They do something that causes the mock
@@ -173,21 +235,28 @@ public final class Invocation implements Serializable {
     }
 
     public void addCapture(Captures<Object> capture, Object value) {
-        capture.setPotentialValue(value);
+        if (currentCaptures == null) {
+            currentCaptures = new ArrayList<>(1);
+            currentCaptureValues = new ArrayList<>(1);
+        }
         currentCaptures.add(capture);
+        currentCaptureValues.add(value);
     }
 
     public void validateCaptures() {
-        for (Captures<?> c : currentCaptures) {
-            c.validateCapture();
+        if (currentCaptures == null) {
+            return;
+        }
+        for (int i = 0; i < currentCaptures.size(); i++) {
+            currentCaptures.get(i).validateCapture(currentCaptureValues.get(i));
         }
     }
 
     public void clearCaptures() {
-        for (Captures<?> c : currentCaptures) {
-            c.setPotentialValue(null);
+        if (currentCaptures != null) {
+            currentCaptures.clear();
+            currentCaptureValues.clear();
         }
-        currentCaptures.clear();
     }
 
     private boolean toStringIsDefined(Object o) {
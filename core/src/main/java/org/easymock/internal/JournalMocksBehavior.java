@@ -0,0 +1,236 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import org.easymock.EasyMock;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Behavior answering calls without checking them, the check is done in bulk when verifying. A call is answered by the
+ * first expectation matching it, whatever its call count, then by the stubs, then with the empty value. So an
+ * expectation can only be recorded again with the same result, like a void call or the same returned value. Another
+ * result would never be given. Nothing is
+ * counted or locked, the calls needed to verify are only appended to a journal kept per thread. Verifying replays the
+ * journal on a copy of what was recorded, so the failures are reported like in a normal replay.
+ * <p>
+ * Calls answered by a stub or the empty value of a nice mock can't fail a verification so they aren't kept. Each
+ * thread keeps at most {@code capacity} calls, the others are only counted and fail the verification.
+ * <p>
+ * Each verification replays the whole journal, so the captures get the values again when verifying more than once.
+ */
+public class JournalMocksBehavior implements IMocksBehavior, Serializable {
+
+    private static final long serialVersionUID = -4785609227591840219L;
+
+    /**
+     * The calls of a thread, only modified by this thread
+     */
+    private static final class Stripe implements Serializable {
+
+        private static final long serialVersionUID = -6280637406733785812L;
+
+        private final List<Invocation> invocations = new ArrayList<>();
+
+        private int dropped;
+    }
+
+    /**
+     * What was recorded. It isn't replayed itself, only copied when verifying
+     */
+    private final MocksBehavior recording;
+
+    /**
+     * Every expectation recorded so far with its first result, to refuse giving a different result to one of them
+     */
+    private transient Map<ExpectedInvocation, Result> expectations = new HashMap<>();
+
+    private final int capacity;
+
+    private final Collection<Stripe> stripes = new ConcurrentLinkedQueue<>();
+
+    private transient ThreadLocal<Stripe> threadToStripe = new ThreadLocal<>();
+
+    public JournalMocksBehavior(boolean nice, int capacity) {
+        this.recording = new MocksBehavior(nice);
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void addExpected(ExpectedInvocation expected, Result result, Range count) {
+        Result recorded = expectations.putIfAbsent(expected, result);
+        if (recorded != null && !recorded.isSameAnswer(result)) {
+            throw new RuntimeExceptionWrapper(new IllegalStateException("only one result can be recorded for "
+                    + expected + " with " + EasyMock.JOURNAL_REPLAY + ", use times() to expect more calls"));
+        }
+        recording.addExpected(expected, result, count);
+    }
+
+    @Override
+    public void addStub(ExpectedInvocation expected, Result result) {
+        recording.addStub(expected, result);
+    }
+
+    @Override
+    public void checkOrder(boolean value) {
+        recording.checkOrder(value);
+    }
+
+    @Override
+    public void makeThreadSafe(boolean isThreadSafe) {
+        recording.makeThreadSafe(isThreadSafe);
+    }
+
+    @Override
+    public void shouldBeUsedInOneThread(boolean shouldBeUsedInOneThread) {
+        recording.shouldBeUsedInOneThread(shouldBeUsedInOneThread);
+    }
+
+    @Override
+    public void compileMatchers() {
+        recording.compileMatchers();
+    }
+
+    @Override
+    public Result addActual(Invocation actual) {
+        for (UnorderedBehavior behaviorList : recording.getBehaviorLists()) {
+            ExpectedInvocationAndResults entry = behaviorList.getMatching(actual);
+            if (entry != null) {
+                journal(actual);
+                // All its results give the same answer, see addExpected
+                return entry.getResults().get(0);
+            }
+        }
+        Result stubOrNice = recording.getStubOrNiceResult(actual);
+        if (stubOrNice != null) {
+            return stubOrNice;
+        }
+        // Unexpected, it will be reported when verifying
+        journal(actual);
+        return MethodInfo.of(actual.getMethod()).getEmptyReturnResult();
+    }
+
+    private void journal(Invocation actual) {
+        Stripe stripe = threadToStripe.get();
+        if (stripe == null) {
+            stripe = new Stripe();
+            stripes.add(stripe);
+            threadToStripe.set(stripe);
+        }
+        if (stripe.invocations.size() < capacity) {
+            stripe.invocations.add(actual);
+        } else {
+            stripe.dropped++;
+        }
+    }
+
+    @Override
+    public Result getUnrecordedNiceResult(Object mock, Method method) {
+        return recording.getUnrecordedNiceResult(mock, method);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return recording.isThreadSafe();
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        // Nothing shared is modified while replaying, nothing to lock
+        return true;
+    }
+
+    @Override
+    public void checkThreadSafety() {
+        recording.checkThreadSafety();
+    }
+
+    @Override
+    public Map<Object, Map<Method, FrozenMethod>> freeze() {
+        return recording.freeze();
+    }
+
+    @Override
+    public void verifyRecording() {
+        checkJournalComplete();
+        check().verifyRecording();
+    }
+
+    @Override
+    public void verifyUnexpectedCalls() {
+        checkJournalComplete();
+        check().verifyUnexpectedCalls();
+    }
+
+    @Override
+    public void verify() {
+        checkJournalComplete();
+        check().verify();
+    }
+
+    private void checkJournalComplete() {
+        long dropped = 0;
+        for (Stripe stripe : stripes) {
+            dropped += stripe.dropped;
+        }
+        if (dropped > 0) {
+            throw new AssertionErrorWrapper(new AssertionError("\n  Journal full: " + dropped
+                    + " calls were not kept and can't be verified. Increase easymock.journalCapacity"));
+        }
+    }
+
+    /**
+     * Replays the journal, thread by thread, on a copy of the recording.
+     *
+     * @return the copy, ready to be verified
+     */
+    private MocksBehavior check() {
+        MocksBehavior checked = new MocksBehavior(recording);
+        for (Stripe stripe : stripes) {
+            for (Invocation invocation : stripe.invocations) {
+                // The captures need the invocation being matched
+                Invocation previous = LastControl.pushCurrentInvocation(invocation);
+                try {
+                    checked.addActual(invocation);
+                } catch (AssertionErrorWrapper ignored) {
+                    // Kept by the copy as an unexpected call
+                } finally {
+                    LastControl.popCurrentInvocation(previous);
+                }
+            }
+        }
+        return checked;
+    }
+
+    private void readObject(java.io.ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        threadToStripe = new ThreadLocal<>();
+        expectations = new HashMap<>();
+        for (UnorderedBehavior behaviorList : recording.getBehaviorLists()) {
+            for (ExpectedInvocationAndResults entry : behaviorList.getExpectations()) {
+                expectations.putIfAbsent(entry.getExpectedInvocation(), entry.getResults().get(0));
+            }
+        }
+    }
+}
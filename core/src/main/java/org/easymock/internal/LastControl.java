@@ -33,11 +33,28 @@ public final class LastControl {
 
     private static final String NO_MATCHERS_FOUND = "no matchers found.";
 
-    private static final ThreadLocal<MocksControl> threadToControl = new ThreadLocal<>();
-
-    private static final ThreadLocal<List<Invocation>> threadToCurrentInvocation = new ThreadLocal<>();
-
-    private static final ThreadLocal<List<IArgumentMatcher>> threadToArgumentMatcherStack = new ThreadLocal<>();
+    /**
+     * Slot of the last control in {@link #threadToSlots}
+     */
+    private static final int CONTROL = 0;
+
+    /**
+     * Slot of the matchers reported for the call being recorded, null if none
+     */
+    private static final int MATCHERS = 1;
+
+    /**
+     * Slot of the invocation being answered, the previous ones in case of recursion are kept by the callers of
+     * {@link #pushCurrentInvocation(Invocation)}
+     */
+    private static final int CURRENT_INVOCATION = 2;
+
+    /**
+     * Everything EasyMock keeps for a thread. Created once per thread and cleared instead of removed, so replaying a
+     * call allocates nothing here. Only a JDK class is kept as the value. Once its slots are cleared, a thread that
+     * stops using mocks doesn't keep EasyMock's class loader reachable.
+     */
+    private static final ThreadLocal<Object[]> threadToSlots = new ThreadLocal<>();
 
     // ///CLOVER:OFF
     private LastControl() {
@@ -45,50 +62,82 @@ public final class LastControl {
 
     // ///CLOVER:ON
 
+    private static Object[] slots() {
+        Object[] slots = threadToSlots.get();
+        if (slots == null) {
+            slots = new Object[3];
+            threadToSlots.set(slots);
+        }
+        return slots;
+    }
+
+    private static Object get(int slot) {
+        Object[] slots = threadToSlots.get();
+        return slots == null ? null : slots[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<IArgumentMatcher> matchers() {
+        return (List<IArgumentMatcher>) get(MATCHERS);
+    }
+
     public static void reportLastControl(MocksControl control) {
         if (control != null) {
-            threadToControl.set(control);
-        } else {
-            threadToControl.remove();
+            slots()[CONTROL] = control;
+            return;
+        }
+        Object[] slots = threadToSlots.get();
+        if (slots != null) {
+            slots[CONTROL] = null;
         }
     }
 
     public static MocksControl lastControl() {
-        return threadToControl.get();
+        return (MocksControl) get(CONTROL);
     }
 
+    @SuppressWarnings("unchecked")
     public static void reportMatcher(IArgumentMatcher matcher) {
-        List<IArgumentMatcher> stack = threadToArgumentMatcherStack.get();
-        if (stack == null) {
-            stack = new ArrayList<>(5); // methods of more than 5 parameters are quite rare
-            threadToArgumentMatcherStack.set(stack);
+        Object[] slots = slots();
+        List<IArgumentMatcher> matchers = (List<IArgumentMatcher>) slots[MATCHERS];
+        if (matchers == null) {
+            matchers = new ArrayList<>(5); // methods of more than 5 parameters are quite rare
+            slots[MATCHERS] = matchers;
         }
-        stack.add(matcher);
+        matchers.add(matcher);
     }
 
+    /**
+     * Removes the matchers reported in this thread.
+     *
+     * @return the matchers, null if none were reported
+     */
     public static List<IArgumentMatcher> pullMatchers() {
-        List<IArgumentMatcher> stack = threadToArgumentMatcherStack.get();
-        if (stack == null) {
+        Object[] slots = threadToSlots.get();
+        if (slots == null) {
             return null;
         }
-        threadToArgumentMatcherStack.remove();
-        return new ArrayList<>(stack);
+        @SuppressWarnings("unchecked")
+        List<IArgumentMatcher> matchers = (List<IArgumentMatcher>) slots[MATCHERS];
+        // Handed over, not copied since nothing refers to it anymore
+        slots[MATCHERS] = null;
+        return matchers;
     }
 
     public static void reportAnd(int count) {
-        List<IArgumentMatcher> stack = threadToArgumentMatcherStack.get();
+        List<IArgumentMatcher> stack = matchers();
         assertState(stack != null, NO_MATCHERS_FOUND);
         stack.add(new And(popLastArgumentMatchers(count)));
     }
 
     public static void reportNot() {
-        List<IArgumentMatcher> stack = threadToArgumentMatcherStack.get();
+        List<IArgumentMatcher> stack = matchers();
         assertState(stack != null, NO_MATCHERS_FOUND);
         stack.add(new Not(popLastArgumentMatchers(1).get(0)));
     }
 
     private static List<IArgumentMatcher> popLastArgumentMatchers(int count) {
-        List<IArgumentMatcher> stack = threadToArgumentMatcherStack.get();
+        List<IArgumentMatcher> stack = matchers();
         assertState(stack != null, NO_MATCHERS_FOUND);
         assertState(stack.size() >= count, "" + count + " matchers expected, " + stack.size() + " recorded.");
         List<IArgumentMatcher> result = new LinkedList<>(stack.subList(stack.size() - count, stack.size()));
@@ -100,36 +149,41 @@ public final class LastControl {
 
     private static void assertState(boolean toAssert, String message) {
         if (!toAssert) {
-            threadToArgumentMatcherStack.remove();
+            pullMatchers();
             throw new IllegalStateException(message);
         }
     }
 
     public static void reportOr(int count) {
-        List<IArgumentMatcher> stack = threadToArgumentMatcherStack.get();
+        List<IArgumentMatcher> stack = matchers();
         assertState(stack != null, NO_MATCHERS_FOUND);
         stack.add(new Or(popLastArgumentMatchers(count)));
     }
 
     public static Invocation getCurrentInvocation() {
-        List<Invocation> stack = threadToCurrentInvocation.get();
-        if (stack == null || stack.isEmpty()) {
-            return null;
-        }
-        return stack.get(stack.size()-1);
+        return (Invocation) get(CURRENT_INVOCATION);
     }
 
-    public static void pushCurrentInvocation(Invocation invocation) {
-        List<Invocation> stack = threadToCurrentInvocation.get();
-        if (stack == null) {
-            stack = new ArrayList<>(2); // we will rarely have more than 1 recursion. So almost never over 2
-            threadToCurrentInvocation.set(stack);
-        }
-        stack.add(invocation);
+    /**
+     * Makes an invocation the current one until {@link #popCurrentInvocation(Invocation)} is called.
+     *
+     * @param invocation the invocation being answered
+     * @return the previous current invocation, to give back to {@link #popCurrentInvocation(Invocation)}
+     */
+    public static Invocation pushCurrentInvocation(Invocation invocation) {
+        Object[] slots = slots();
+        Invocation previous = (Invocation) slots[CURRENT_INVOCATION];
+        slots[CURRENT_INVOCATION] = invocation;
+        return previous;
     }
 
-    public static void popCurrentInvocation() {
-        List<Invocation> stack = threadToCurrentInvocation.get();
-        stack.remove(stack.size()-1);
+    /**
+     * Restores the current invocation as it was before {@link #pushCurrentInvocation(Invocation)}.
+     *
+     * @param previous what {@link #pushCurrentInvocation(Invocation)} returned
+     */
+    public static void popCurrentInvocation(Invocation previous) {
+        // Never null, the slots were created by pushCurrentInvocation
+        threadToSlots.get()[CURRENT_INVOCATION] = previous;
     }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reflective facts about a mocked method, computed once. The getters of {@link Method} like
+ * {@code getParameterTypes()} and {@code getExceptionTypes()} clone their result on each call.
+ * <p>
+ * The arrays returned are shared and must not be modified.
+ */
+public final class MethodInfo {
+
+    /**
+     * The infos of the methods of each class, created when first asked for. Keyed by class so they go away with it
+     */
+    private static final ClassValue<Map<Method, MethodInfo>> INFOS = new ClassValue<Map<Method, MethodInfo>>() {
+        @Override
+        protected Map<Method, MethodInfo> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Method method;
+
+    private final Class<?>[] parameterTypes;
+
+    private final boolean[] primitiveParameters;
+
+    private final Class<?> varArgsComponentType;
+
+    private final Class<?> returnType;
+
+    private final Object emptyReturnValue;
+
+    private final Result emptyReturnResult;
+
+    private final Class<?>[] exceptionTypes;
+
+    private volatile MethodHandle spreadInvoker;
+
+    private MethodInfo(Method method) {
+        this.method = method;
+        parameterTypes = method.getParameterTypes();
+        primitiveParameters = new boolean[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            primitiveParameters[i] = parameterTypes[i].isPrimitive();
+        }
+        varArgsComponentType = method.isVarArgs() ? parameterTypes[parameterTypes.length - 1].getComponentType() : null;
+        returnType = method.getReturnType();
+        emptyReturnValue = returnType.isPrimitive() ? PrimitiveUtils.getEmptyValue(returnType) : null;
+        emptyReturnResult = Result.createEmptyReturnResult(returnType);
+        exceptionTypes = method.getExceptionTypes();
+    }
+
+    /**
+     * @param method a method
+     * @return the infos of this method
+     */
+    public static MethodInfo of(Method method) {
+        Map<Method, MethodInfo> infos = INFOS.get(method.getDeclaringClass());
+        MethodInfo info = infos.get(method);
+        if (info == null) {
+            info = infos.computeIfAbsent(method, MethodInfo::new);
+        }
+        return info;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public Class<?>[] getParameterTypes() {
+        return parameterTypes;
+    }
+
+    public int getParameterCount() {
+        return parameterTypes.length;
+    }
+
+    /**
+     * Tells if the parameter of an argument is primitive. The arguments of a varargs call are expanded, so all the
+     * arguments from the last parameter belong to the varargs array parameter.
+     *
+     * @param position position of the argument
+     * @return if the parameter of the argument at this position is primitive
+     */
+    public boolean isPrimitiveParameter(int position) {
+        if (varArgsComponentType != null) {
+            position = Math.min(position, parameterTypes.length - 1);
+        }
+        return primitiveParameters[position];
+    }
+
+    public boolean isVarArgs() {
+        return varArgsComponentType != null;
+    }
+
+    /**
+     * @return the component type of the varargs parameter, null if the method isn't varargs
+     */
+    public Class<?> getVarArgsComponentType() {
+        return varArgsComponentType;
+    }
+
+    public Class<?> getReturnType() {
+        return returnType;
+    }
+
+    public boolean isVoid() {
+        return returnType == void.class;
+    }
+
+    /**
+     * @return {@code null}, {@code 0} or {@code false} according to the return type
+     */
+    public Object getEmptyReturnValue() {
+        return emptyReturnValue;
+    }
+
+    /**
+     * @return the shared result returning the empty return value
+     */
+    public Result getEmptyReturnResult() {
+        return emptyReturnResult;
+    }
+
+    public Class<?>[] getExceptionTypes() {
+        return exceptionTypes;
+    }
+
+    /**
+     * A {@code (Object, Object[])Object} handle calling the method on the object with the arguments spread, created on
+     * the first use. The call is virtual so it works for any object implementing the method. Primitives are boxed and
+     * a void method returns {@code null}. Varargs must be passed packed in an array like for
+     * {@link Method#invoke(Object, Object...)}.
+     *
+     * @return the handle calling the method
+     */
+    public MethodHandle getSpreadInvoker() {
+        MethodHandle invoker = spreadInvoker;
+        if (invoker == null) {
+            invoker = spreadInvoker = createSpreadInvoker();
+        }
+        return invoker;
+    }
+
+    private MethodHandle createSpreadInvoker() {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException ignored) {
+            method.setAccessible(true);
+            try {
+                handle = MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException e) {
+                // ///CLOVER:OFF
+                throw new IllegalStateException("Can't call " + method, e);
+                // ///CLOVER:ON
+            }
+        }
+        handle = handle.asFixedArity();
+        MethodType type = handle.type().changeReturnType(Object.class).changeParameterType(0, Object.class);
+        return handle.asType(type).asSpreader(Object[].class, parameterTypes.length);
+    }
+}
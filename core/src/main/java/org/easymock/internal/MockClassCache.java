@@ -0,0 +1,205 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import net.bytebuddy.ByteBuddy;
+import org.easymock.EasyMock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the bytes of generated class mocks on disk so another JVM can define them instead of generating them. It is
+ * enabled by setting {@link EasyMock#MOCK_CLASS_CACHE_DIRECTORY}.
+ * <p>
+ * A class is stored under a key that is a hash of everything that can change the generated bytes: the bytecode of the
+ * mocked class and of its parents, the mocked methods, EasyMock and ByteBuddy. A class mock cached this way is named
+ * after its key. The cache is best effort. Any failure to read or write it just means the class is generated.
+ */
+public final class MockClassCache {
+
+    private static final String VERSION = EasyMock.class.getPackage() == null ? null
+        : EasyMock.class.getPackage().getImplementationVersion();
+
+    private final Path directory;
+
+    private MockClassCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the configured cache.
+     *
+     * @return the cache or null if no cache directory is configured
+     */
+    public static MockClassCache getInstance() {
+        String directory = EasyMockProperties.getInstance().getProperty(EasyMock.MOCK_CLASS_CACHE_DIRECTORY);
+        if (directory == null || directory.isEmpty()) {
+            return null;
+        }
+        return new MockClassCache(Paths.get(directory));
+    }
+
+    /**
+     * Compute the key under which the mock class of a given class is cached.
+     *
+     * @param toMock the mocked class
+     * @param mockedMethods the mocked methods, null if everything is mocked
+     * @param classPackage the package where the mock class will be created
+     * @return the key or null if the mock class can't be cached because some bytecode can't be found
+     */
+    public String key(Class<?> toMock, Method[] mockedMethods, String classPackage) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // ///CLOVER:OFF
+            return null;
+            // ///CLOVER:ON
+        }
+        update(digest, String.valueOf(VERSION));
+        update(digest, classPackage);
+
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (Class<?> c = toMock; c != null; c = c.getSuperclass()) {
+            addWithInterfaces(types, c);
+        }
+        types.add(ClassProxyFactory.class);
+        types.add(ClassProxyFactory.MockMethodInterceptor.class);
+        types.add(ByteBuddy.class);
+
+        for (Class<?> type : types) {
+            byte[] bytes = bytecode(type);
+            if (bytes == null) {
+                return null;
+            }
+            update(digest, type.getName());
+            digest.update(bytes);
+        }
+
+        if (mockedMethods == null) {
+            update(digest, "*");
+        } else {
+            List<String> methods = new ArrayList<>(mockedMethods.length);
+            for (Method method : mockedMethods) {
+                methods.add(method.toString());
+            }
+            Collections.sort(methods);
+            for (String method : methods) {
+                update(digest, method);
+            }
+        }
+
+        byte[] hash = digest.digest();
+        StringBuilder key = new StringBuilder(32);
+        for (int i = 0; i < 16; i++) {
+            key.append(Character.forDigit((hash[i] >> 4) & 0xF, 16)).append(Character.forDigit(hash[i] & 0xF, 16));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Read the bytes of a cached mock class.
+     *
+     * @param className name of the mock class
+     * @return the bytes or null if the class isn't cached
+     */
+    public byte[] read(String className) {
+        Path file = file(className);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Store the bytes of a mock class. The file is written aside and then moved, so a JVM reading the cache never sees
+     * a partial file.
+     *
+     * @param className name of the mock class
+     * @param bytes the class bytes
+     */
+    public void write(String className, byte[] bytes) {
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, className, ".tmp");
+            try {
+                Files.write(tmp, bytes);
+                try {
+                    Files.move(tmp, file(className), StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    Files.move(tmp, file(className), StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            // Not cached, the class will just be generated again next time
+        }
+    }
+
+    private Path file(String className) {
+        return directory.resolve(className + ".class");
+    }
+
+    private static void addWithInterfaces(Set<Class<?>> types, Class<?> type) {
+        if (types.add(type)) {
+            for (Class<?> i : type.getInterfaces()) {
+                addWithInterfaces(types, i);
+            }
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static byte[] bytecode(Class<?> type) {
+        try (InputStream in = type.getResourceAsStream("/" + type.getName().replace('.', '/') + ".class")) {
+            if (in == null) {
+                return null;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
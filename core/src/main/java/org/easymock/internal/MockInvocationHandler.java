@@ -28,6 +28,12 @@ public final class MockInvocationHandler implements InvocationHandler, Serializa
 
     private static final long serialVersionUID = -7799769066534714634L;
 
+    /**
+     * Set while the stack trace of a thrown class mock is filled in. The mock then ignores the call instead of
+     * recording or replaying it.
+     */
+    private static final ThreadLocal<Boolean> fillingInStackTrace = new ThreadLocal<>();
+
     private final MocksControl control;
 
     public MockInvocationHandler(MocksControl control) {
@@ -36,20 +42,107 @@ public final class MockInvocationHandler implements InvocationHandler, Serializa
 
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
         try {
-            if (control.getState() instanceof RecordState) {
+            IMocksControlState state = control.getState();
+            if (state instanceof ReplayState) {
+                return ((ReplayState) state).invoke(proxy, method, args);
+            }
+            if (state instanceof RecordState) {
                 LastControl.reportLastControl(control);
             }
-            return control.getState().invoke(new Invocation(proxy, method, args));
+            return state.invoke(new Invocation(proxy, method, args));
         } catch (RuntimeExceptionWrapper e) {
             throw e.getRuntimeException().fillInStackTrace();
         } catch (AssertionErrorWrapper e) {
             throw e.getAssertionError().fillInStackTrace();
         } catch (ThrowableWrapper t) {
-            throw t.getThrowable().fillInStackTrace();
+            throw fillInStackTrace(t.getThrowable());
         }
         // then let all unwrapped exceptions pass unmodified
     }
 
+    private static Throwable fillInStackTrace(Throwable throwable) {
+        if (!(throwable instanceof ClassMock) && !AndroidSupport.isAndroid()) {
+            // Can't be a mock
+            return throwable.fillInStackTrace();
+        }
+        fillingInStackTrace.set(Boolean.TRUE);
+        try {
+            return throwable.fillInStackTrace();
+        } finally {
+            fillingInStackTrace.remove();
+        }
+    }
+
+    /**
+     * @return if EasyMock is filling in the stack trace of a thrown throwable in the current thread
+     */
+    public static boolean isFillingInStackTrace() {
+        return fillingInStackTrace.get() != null;
+    }
+
+    /**
+     * Invocation of a method taking a single {@code int}. A frozen mock can answer it without boxing the argument.
+     *
+     * @param proxy the mock
+     * @param method the method called
+     * @param actual the argument
+     * @return what the mock answers
+     * @throws Throwable what the mock throws
+     */
+    public Object invoke(Object proxy, Method method, int actual) throws Throwable {
+        IMocksControlState state = control.getState();
+        if (state instanceof FrozenState) {
+            Result result = ((FrozenState) state).getResult(proxy, method, actual);
+            // Only results returning a value are compiled, so nothing is thrown that would need to be unwrapped
+            if (result != null) {
+                return result.answer();
+            }
+        }
+        return invoke(proxy, method, new Object[] { actual });
+    }
+
+    /**
+     * Invocation of a method taking a single {@code long}. A frozen mock can answer it without boxing the argument.
+     *
+     * @param proxy the mock
+     * @param method the method called
+     * @param actual the argument
+     * @return what the mock answers
+     * @throws Throwable what the mock throws
+     */
+    public Object invoke(Object proxy, Method method, long actual) throws Throwable {
+        IMocksControlState state = control.getState();
+        if (state instanceof FrozenState) {
+            Result result = ((FrozenState) state).getResult(proxy, method, actual);
+            // Only results returning a value are compiled, so nothing is thrown that would need to be unwrapped
+            if (result != null) {
+                return result.answer();
+            }
+        }
+        return invoke(proxy, method, new Object[] { actual });
+    }
+
+    /**
+     * Invocation of a method taking a single {@code double}. A frozen mock can answer it without boxing the argument.
+     *
+     * @param proxy the mock
+     * @param method the method called
+     * @param actual the argument
+     * @return what the mock answers
+     * @throws Throwable what the mock throws
+     */
+    public Object invoke(Object proxy, Method method, double actual) throws Throwable {
+        IMocksControlState state = control.getState();
+        if (state instanceof FrozenState) {
+            Result result = ((FrozenState) state).getResult(proxy, method, actual);
+            // Only results returning a value are compiled, so nothing is thrown that would need to be unwrapped
+            if (result != null) {
+                return result.answer();
+            }
+        }
+        return invoke(proxy, method, new Object[] { actual });
+    }
+
     public MocksControl getControl() {
         return control;
     }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of entries by mock and method. An invocation can only match an expectation recorded on the same mock
+ * (compared by identity) and the same method. So there is no need to look at the others. Entries recorded for a
+ * given mock and method are kept in registration order to preserve the first-match semantic.
+ * <p>
+ * The index isn't serializable since {@link Method} isn't. Its owner is expected to rebuild it after deserialization.
+ *
+ * @param <E> type of the indexed entries
+ */
+public final class MockMethodIndex<E> {
+
+    // Strict mocks create one index per expectation, so keep the maps small until they need to grow
+    private final Map<Object, Map<Method, List<E>>> entries = new IdentityHashMap<>(2);
+
+    /**
+     * Add an entry after all the entries already indexed for this mock and method.
+     *
+     * @param mock the mock on which the entry was recorded
+     * @param method the method of the entry
+     * @param entry the entry to index
+     */
+    public void add(Object mock, Method method, E entry) {
+        entries.computeIfAbsent(mock, m -> new HashMap<>(2))
+            .computeIfAbsent(method, m -> new ArrayList<>(1))
+            .add(entry);
+    }
+
+    /**
+     * Returns the entries indexed for this mock and method in registration order.
+     *
+     * @param mock the mock that was invoked
+     * @param method the method that was invoked
+     * @return the matching entries. Never null
+     */
+    public List<E> get(Object mock, Method method) {
+        Map<Method, List<E>> methods = entries.get(mock);
+        if (methods == null) {
+            return Collections.emptyList();
+        }
+        List<E> list = methods.get(method);
+        return list == null ? Collections.emptyList() : list;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+}
@@ -17,9 +17,15 @@ package org.easymock.internal;
 
 import org.easymock.EasyMock;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -31,11 +37,26 @@ public class MocksBehavior implements IMocksBehavior, Serializable {
 
     private static final long serialVersionUID = 6824996227285837998L;
 
+    static final String ONLY_STUBS_WHEN_FROZEN =
+            "only stubs can be recorded on a frozen mock, use replay() to verify expectations";
+
     private final List<UnorderedBehavior> behaviorLists = new ArrayList<>();
 
-    private final List<ExpectedInvocationAndResult> stubResults = new ArrayList<>();
+    private final List<ExpectedInvocationAndResult> stubResults;
+
+    /**
+     * Same content as {@code stubResults} but indexed by expected invocation to only look at the possible candidates
+     */
+    private transient ExpectationIndex<ExpectedInvocationAndResult> stubIndex;
 
-    private final List<Invocation> unexpectedCalls = new ArrayList<>();
+    /**
+     * Everything recorded, expectations and stubs, by mock and method. A call on a method without anything recorded
+     * can't match anything
+     */
+    private transient MockMethodIndex<ExpectedInvocation> recorded;
+
+    // Calls can be unexpected in many threads at once when the replay isn't locked
+    private final List<Invocation> unexpectedCalls = Collections.synchronizedList(new ArrayList<>());
 
     private final boolean nice;
 
@@ -51,25 +72,89 @@ public class MocksBehavior implements IMocksBehavior, Serializable {
 
     public MocksBehavior(boolean nice) {
         this.nice = nice;
+        this.stubResults = new ArrayList<>();
+        this.stubIndex = new ExpectationIndex<>();
+        this.recorded = new MockMethodIndex<>();
         this.isThreadSafe = !Boolean.parseBoolean(EasyMockProperties.getInstance().getProperty(
                 EasyMock.NOT_THREAD_SAFE_BY_DEFAULT));
         this.shouldBeUsedInOneThread = Boolean.parseBoolean(EasyMockProperties.getInstance().getProperty(
                 EasyMock.ENABLE_THREAD_SAFETY_CHECK_BY_DEFAULT));
     }
 
+    /**
+     * Copy of a behavior to replay its expectations from the start. The stubs are shared since they aren't modified
+     * while replaying.
+     *
+     * @param recording the behavior to copy
+     */
+    protected MocksBehavior(MocksBehavior recording) {
+        this.nice = recording.nice;
+        this.stubResults = recording.stubResults;
+        this.stubIndex = recording.stubIndex;
+        this.recorded = recording.recorded;
+        this.checkOrder = recording.checkOrder;
+        this.isThreadSafe = recording.isThreadSafe;
+        this.shouldBeUsedInOneThread = recording.shouldBeUsedInOneThread;
+        for (UnorderedBehavior behaviorList : recording.behaviorLists) {
+            behaviorLists.add(behaviorList.copy());
+        }
+    }
+
     @Override
     public final void addStub(ExpectedInvocation expected, Result result) {
-        stubResults.add(new ExpectedInvocationAndResult(expected, result));
+        ExpectedInvocationAndResult stub = new ExpectedInvocationAndResult(expected, result);
+        stubResults.add(stub);
+        stubIndex.add(expected, stub);
+        recorded.add(expected.getMock(), expected.getMethod(), expected);
     }
 
     @Override
     public void addExpected(ExpectedInvocation expected, Result result, Range count) {
         addBehaviorListIfNecessary(expected);
         lastBehaviorList().addExpected(expected, result, count);
+        recorded.add(expected.getMock(), expected.getMethod(), expected);
+    }
+
+    @Override
+    public void compileMatchers() {
+        for (ExpectedInvocationAndResult stub : stubResults) {
+            stub.getExpectedInvocation().compileMatchers();
+        }
+        for (UnorderedBehavior behaviorList : behaviorLists) {
+            for (ExpectedInvocationAndResults entry : behaviorList.getExpectations()) {
+                entry.getExpectedInvocation().compileMatchers();
+            }
+        }
+    }
+
+    @Override
+    public Result getUnrecordedNiceResult(Object mock, Method method) {
+        if (!nice || !recorded.get(mock, method).isEmpty()) {
+            return null;
+        }
+        return MethodInfo.of(method).getEmptyReturnResult();
+    }
+
+    /**
+     * Returns the stub or nice result for this call, null if there is none. Stubs aren't modified while replaying so
+     * it is safe to call concurrently.
+     */
+    final Result getStubOrNiceResult(Invocation actual) {
+        Result stubOrNice = getStubResult(actual);
+        if (stubOrNice == null && nice) {
+            stubOrNice = MethodInfo.of(actual.getMethod()).getEmptyReturnResult();
+        }
+        if (stubOrNice != null) {
+            actual.validateCaptures();
+            actual.clearCaptures();
+        }
+        return stubOrNice;
     }
 
     private Result getStubResult(Invocation actual) {
-        for (ExpectedInvocationAndResult each : stubResults) {
+        List<ExpectedInvocationAndResult> candidates = stubIndex.get(actual);
+        for (int i = 0; i < candidates.size(); i++) {
+            ExpectedInvocationAndResult each = candidates.get(i);
             if (each.getExpectedInvocation().matches(actual)) {
                 return each.getResult();
             }
@@ -87,38 +172,40 @@ public class MocksBehavior implements IMocksBehavior, Serializable {
         return behaviorLists.get(behaviorLists.size() - 1);
     }
 
+    final List<UnorderedBehavior> getBehaviorLists() {
+        return behaviorLists;
+    }
+
+    final int getPosition() {
+        return position.get();
+    }
+
     @Override
-    public final Result addActual(Invocation actual) {
+    public Result addActual(Invocation actual) {
         int initialPosition = position.get();
 
-        while (position.get() < behaviorLists.size()) {
-            int index = position.get();
+        // The position is only moved when a call matches, so it never points to a behavior list being tried
+        int index = initialPosition;
+        while (index < behaviorLists.size()) {
             Result result = behaviorLists.get(index).addActual(actual);
             if (result != null) {
+                position.set(index);
                 return result;
             }
             if (!behaviorLists.get(index).verify()) {
                 break;
             }
-            position.incrementAndGet();
-        }
-        Result stubOrNice = getStubResult(actual);
-        if (stubOrNice == null && nice) {
-            stubOrNice = Result.createReturnResult(RecordState.emptyReturnValueFor(actual.getMethod()
-                    .getReturnType()));
+            index++;
         }
 
-        int endPosition = position.get();
-
         // Do not move the cursor in case of stub, nice or error
-        position.set(initialPosition);
-
+        Result stubOrNice = getStubOrNiceResult(actual);
         if (stubOrNice != null) {
-            actual.validateCaptures();
-            actual.clearCaptures();
             return stubOrNice;
         }
 
+        int endPosition = index;
+
         // Case where the loop was exited at the end of the behaviorLists
         if (endPosition == behaviorLists.size()) {
             endPosition--;
@@ -161,6 +248,27 @@ public class MocksBehavior implements IMocksBehavior, Serializable {
         throw new AssertionErrorWrapper(new AssertionError(errorMessage));
     }
 
+    @Override
+    public Map<Object, Map<Method, FrozenMethod>> freeze() {
+        if (!behaviorLists.isEmpty()) {
+            throw new RuntimeExceptionWrapper(new IllegalStateException(ONLY_STUBS_WHEN_FROZEN));
+        }
+        Map<Object, Map<Method, List<ExpectedInvocationAndResult>>> stubs = new IdentityHashMap<>();
+        for (ExpectedInvocationAndResult stub : stubResults) {
+            ExpectedInvocation expected = stub.getExpectedInvocation();
+            stubs.computeIfAbsent(expected.getMock(), mock -> new HashMap<>())
+                .computeIfAbsent(expected.getMethod(), method -> new ArrayList<>(1))
+                .add(stub);
+        }
+        Map<Object, Map<Method, FrozenMethod>> frozen = new IdentityHashMap<>(stubs.size());
+        stubs.forEach((mock, methods) -> {
+            Map<Method, FrozenMethod> frozenMethods = new HashMap<>(methods.size());
+            methods.forEach((method, list) -> frozenMethods.put(method, FrozenMethod.of(method, list, nice)));
+            frozen.put(mock, frozenMethods);
+        });
+        return frozen;
+    }
+
     @Override
     public void verifyRecording() {
         boolean verified = true;
@@ -245,6 +353,11 @@ public class MocksBehavior implements IMocksBehavior, Serializable {
         return this.isThreadSafe;
     }
 
+    @Override
+    public boolean isConcurrent() {
+        return false;
+    }
+
     @Override
     public void checkThreadSafety() {
         if (!shouldBeUsedInOneThread) {
@@ -258,4 +371,21 @@ public class MocksBehavior implements IMocksBehavior, Serializable {
                             + " Current: " + Thread.currentThread()));
         }
     }
+
+    private void readObject(java.io.ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        stubIndex = new ExpectationIndex<>();
+        recorded = new MockMethodIndex<>();
+        for (ExpectedInvocationAndResult stub : stubResults) {
+            ExpectedInvocation expected = stub.getExpectedInvocation();
+            stubIndex.add(expected, stub);
+            recorded.add(expected.getMock(), expected.getMethod(), expected);
+        }
+        for (UnorderedBehavior behaviorList : behaviorLists) {
+            for (ExpectedInvocationAndResults entry : behaviorList.getExpectations()) {
+                ExpectedInvocation expected = entry.getExpectedInvocation();
+                recorded.add(expected.getMock(), expected.getMethod(), expected);
+            }
+        }
+    }
 }
@@ -54,11 +54,21 @@ public class MocksControl implements IMocksControl, IExpectationSetters<Object>,
      */
     public static final Range ZERO_OR_MORE = new Range(0, Integer.MAX_VALUE);
 
+    /**
+     * Calls kept per thread by the journal when {@link EasyMock#JOURNAL_CAPACITY} isn't set.
+     */
+    private static final int DEFAULT_JOURNAL_CAPACITY = 1_000_000;
+
     /** lazily created; the proxy factory for classes */
     private static volatile IProxyFactory classProxyFactory;
 
     private static final IProxyFactory interfaceProxyFactory = new JavaProxyFactory();
 
+    /** lazily created; the proxy factory for interfaces when ByteBuddy generates them */
+    private static volatile IProxyFactory interfaceClassProxyFactory;
+
+    private static final IProxyFactory precompiledProxyFactory = new PrecompiledProxyFactory();
+
     private IMocksControlState state;
 
     private IMocksBehavior behavior;
@@ -103,8 +113,12 @@ public class MocksControl implements IMocksControl, IExpectationSetters<Object>,
         try {
             state.assertRecordState();
             IProxyFactory proxyFactory = toMock.isInterface()
-                    ? interfaceProxyFactory
+                    ? getInterfaceProxyFactory()
                     : getClassProxyFactory();
+            // A mock class generated at compile time can only be a full mock
+            if (mockedMethods == null && constructorArgs == null && PrecompiledProxyFactory.isPrecompiled(toMock)) {
+                proxyFactory = precompiledProxyFactory;
+            }
             try {
                 @SuppressWarnings("unchecked")
                 R mock = (R) proxyFactory.createProxy(toMock, new ObjectMethodsFilter(toMock,
@@ -136,11 +150,33 @@ public class MocksControl implements IMocksControl, IExpectationSetters<Object>,
     }
 
     public static IProxyFactory getProxyFactory(Object o) {
-        return Proxy.isProxyClass(o.getClass())
-                ? interfaceProxyFactory
+        if (o instanceof PrecompiledMock) {
+            return precompiledProxyFactory;
+        }
+        if (Proxy.isProxyClass(o.getClass())) {
+            return interfaceProxyFactory;
+        }
+        return isInterfaceClassMock(o.getClass())
+                ? getInterfaceClassProxyFactory()
                 : getClassProxyFactory();
     }
 
+    private static IProxyFactory getInterfaceProxyFactory() {
+        String byteBuddyInterfaceMocking = EasyMockProperties.getInstance().getProperty(
+                EasyMock.BYTE_BUDDY_INTERFACE_MOCKING);
+        return Boolean.parseBoolean(byteBuddyInterfaceMocking)
+                ? getInterfaceClassProxyFactory()
+                : interfaceProxyFactory;
+    }
+
+    private static IProxyFactory getInterfaceClassProxyFactory() {
+        IProxyFactory cached = interfaceClassProxyFactory;
+        if (cached != null) {
+            return cached;
+        }
+        return interfaceClassProxyFactory = new InterfaceClassProxyFactory();
+    }
+
     private static IProxyFactory getClassProxyFactory() {
         String classMockingDisabled = EasyMockProperties.getInstance().getProperty(
                 EasyMock.DISABLE_CLASS_MOCKING);
@@ -190,20 +226,66 @@ public class MocksControl implements IMocksControl, IExpectationSetters<Object>,
      */
     @SuppressWarnings("unchecked")
     public static <T,  R extends T> Class<R> getMockedClass(T proxy) {
-        if (Proxy.isProxyClass(proxy.getClass())) {
-            return (Class<R>) proxy.getClass().getInterfaces()[0];
+        Class<?> mockClass = proxy.getClass();
+        if (Proxy.isProxyClass(mockClass) || isInterfaceClassMock(mockClass)) {
+            return (Class<R>) mockClass.getInterfaces()[0];
+        }
+        return (Class<R>) mockClass.getSuperclass();
+    }
+
+    /**
+     * Interface mocks generated as classes extend {@code Object} and implement the mocked interface first. A mock of
+     * {@code Object} only implements the EasyMock marker interfaces.
+     */
+    private static boolean isInterfaceClassMock(Class<?> mockClass) {
+        if (mockClass.getSuperclass() != Object.class || !ClassMock.class.isAssignableFrom(mockClass)) {
+            return false;
         }
-        return (Class<R>) proxy.getClass().getSuperclass();
+        return !ClassMock.class.isAssignableFrom(mockClass.getInterfaces()[0]);
     }
 
     @Override
     public void reset() {
-        behavior = new MocksBehavior(type == org.easymock.MockType.NICE);
+        boolean journal = Boolean.parseBoolean(EasyMockProperties.getInstance().getProperty(
+                EasyMock.JOURNAL_REPLAY));
+        boolean perThread = Boolean.parseBoolean(EasyMockProperties.getInstance().getProperty(
+                EasyMock.PER_THREAD_REPLAY));
+        boolean concurrent = Boolean.parseBoolean(EasyMockProperties.getInstance().getProperty(
+                EasyMock.CONCURRENT_REPLAY));
+        if ((journal ? 1 : 0) + (perThread ? 1 : 0) + (concurrent ? 1 : 0) > 1) {
+            throw new IllegalArgumentException(EasyMock.CONCURRENT_REPLAY + ", " + EasyMock.PER_THREAD_REPLAY + " and "
+                    + EasyMock.JOURNAL_REPLAY + " can't be combined, only one of them can be true");
+        }
+        boolean nice = type == org.easymock.MockType.NICE;
+        if (journal) {
+            behavior = new JournalMocksBehavior(nice, getJournalCapacity());
+        } else if (perThread) {
+            behavior = new PartitionedMocksBehavior(nice);
+        } else {
+            behavior = concurrent ? new ConcurrentMocksBehavior(nice) : new MocksBehavior(nice);
+        }
         behavior.checkOrder(type == org.easymock.MockType.STRICT);
         state = new RecordState(behavior);
         LastControl.reportLastControl(null);
     }
 
+    private static int getJournalCapacity() {
+        String value = EasyMockProperties.getInstance().getProperty(EasyMock.JOURNAL_CAPACITY);
+        if (value == null) {
+            return DEFAULT_JOURNAL_CAPACITY;
+        }
+        int capacity;
+        try {
+            capacity = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(EasyMock.JOURNAL_CAPACITY + " must be a positive integer: " + value, e);
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(EasyMock.JOURNAL_CAPACITY + " must be a positive integer: " + value);
+        }
+        return capacity;
+    }
+
     @Override
     public void resetToNice() {
         type = MockType.NICE;
@@ -226,6 +308,7 @@ public class MocksControl implements IMocksControl, IExpectationSetters<Object>,
     public void replay() {
         try {
             state.replay();
+            compileMatchersIfRequested();
             state = new ReplayState(behavior);
             LastControl.reportLastControl(null);
         } catch (RuntimeExceptionWrapper e) {
@@ -233,6 +316,25 @@ public class MocksControl implements IMocksControl, IExpectationSetters<Object>,
         }
     }
 
+    @Override
+    public void freeze() {
+        try {
+            // Everything is checked before switching the state, so a failed freeze leaves the control recording
+            state.freeze();
+            compileMatchersIfRequested();
+            state = new FrozenState(behavior, type == MockType.NICE);
+            LastControl.reportLastControl(null);
+        } catch (RuntimeExceptionWrapper e) {
+            throw (RuntimeException) e.getRuntimeException().fillInStackTrace();
+        }
+    }
+
+    private void compileMatchersIfRequested() {
+        if (Boolean.parseBoolean(EasyMockProperties.getInstance().getProperty(EasyMock.COMPILE_MATCHERS))) {
+            behavior.compileMatchers();
+        }
+    }
+
     @Override
     public void verifyRecording() {
         try {
@@ -35,6 +35,28 @@ public final class ObjectMethodsFilter implements InvocationHandler, Serializabl
 
     private static final Predicate<Method> NOT_PRIVATE = method -> !Modifier.isPrivate(method.getModifiers());
 
+    /**
+     * The {@code equals}, {@code hashCode}, {@code toString} and {@code finalize} methods of a mocked class, in this
+     * order. They are resolved once per class since looking for them is walking the class hierarchy.
+     */
+    private static final ClassValue<Method[]> OBJECT_METHODS = new ClassValue<Method[]>() {
+        @Override
+        protected Method[] computeValue(Class<?> toMock) {
+            try {
+                return new Method[] {
+                    extractMethod(toMock, "equals", Object.class),
+                    extractMethod(toMock, "hashCode", (Class<?>[]) null),
+                    extractMethod(toMock, "toString", (Class<?>[]) null),
+                    ReflectionUtils.findMethod(toMock, "finalize", NOT_PRIVATE, (Class<?>[]) null)
+                };
+            } catch (NoSuchMethodException e) {
+                // ///CLOVER:OFF
+                throw new RuntimeException("An Object method could not be found!", e);
+                // ///CLOVER:ON
+            }
+        }
+    };
+
     private transient Method equalsMethod;
 
     private transient Method hashCodeMethod;
@@ -54,16 +76,11 @@ public final class ObjectMethodsFilter implements InvocationHandler, Serializabl
             toStringMethod = ReflectionUtils.OBJECT_TOSTRING;
             finalizeMethod = ReflectionUtils.OBJECT_FINALIZE;
         } else {
-            try {
-                equalsMethod = extractMethod(toMock, "equals", Object.class);
-                hashCodeMethod = extractMethod(toMock, "hashCode", (Class<?>[]) null);
-                toStringMethod = extractMethod(toMock, "toString", (Class<?>[]) null);
-                finalizeMethod = ReflectionUtils.findMethod(toMock, "finalize", NOT_PRIVATE, (Class<?>[]) null);
-            } catch (NoSuchMethodException e) {
-                // ///CLOVER:OFF
-                throw new RuntimeException("An Object method could not be found!", e);
-                // ///CLOVER:ON
-            }
+            Method[] objectMethods = OBJECT_METHODS.get(toMock);
+            equalsMethod = objectMethods[0];
+            hashCodeMethod = objectMethods[1];
+            toStringMethod = objectMethods[2];
+            finalizeMethod = objectMethods[3];
         }
 
         this.delegate = delegate;
@@ -100,7 +117,7 @@ public final class ObjectMethodsFilter implements InvocationHandler, Serializabl
         return delegate.invoke(proxy, method, args);
     }
 
-    private String mockToString(Object proxy) {
+    String mockToString(Object proxy) {
         return (name != null) ? name : "EasyMock for " + MocksControl.getMockedClass(proxy);
     }
 
@@ -15,7 +15,9 @@
  */
 package org.easymock.internal;
 
-import org.objenesis.ObjenesisHelper;
+import org.objenesis.Objenesis;
+import org.objenesis.ObjenesisStd;
+import org.objenesis.instantiator.ObjectInstantiator;
 
 /**
  * Class instantiator using Objenesis to perform the instantiation without calling any constructor.
@@ -24,8 +26,18 @@ import org.objenesis.ObjenesisHelper;
  */
 public class ObjenesisClassInstantiator implements IClassInstantiator {
 
+    // No Objenesis cache since the instantiators are cached on the class itself
+    private static final Objenesis OBJENESIS = new ObjenesisStd(false);
+
+    private static final ClassValue<ObjectInstantiator<?>> INSTANTIATORS = new ClassValue<ObjectInstantiator<?>>() {
+        @Override
+        protected ObjectInstantiator<?> computeValue(Class<?> type) {
+            return OBJENESIS.getInstantiatorOf(type);
+        }
+    };
+
     public Object newInstance(Class<?> clazz) {
-        return ObjenesisHelper.newInstance(clazz);
+        return INSTANTIATORS.get(clazz).newInstance();
     }
 
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Behavior replaying what was recorded separately in each thread. Each thread calling the mocks gets its own copy of
+ * the expectations, with its own position and call counts, when it makes its first call. So threads replay without
+ * sharing anything mutable and strict mocks check the order of the calls of each thread. The stubs are shared since
+ * they aren't modified while replaying. Verifying checks the calls of every thread.
+ */
+public class PartitionedMocksBehavior implements IMocksBehavior, Serializable {
+
+    private static final long serialVersionUID = -1406352398436599187L;
+
+    /**
+     * The expectations of a thread
+     */
+    private static final class Partition implements Serializable {
+
+        private static final long serialVersionUID = 3940238011645829372L;
+
+        private final String threadName;
+
+        private final MocksBehavior behavior;
+
+        Partition(String threadName, MocksBehavior behavior) {
+            this.threadName = threadName;
+            this.behavior = behavior;
+        }
+    }
+
+    /**
+     * What was recorded. It isn't replayed itself, only copied
+     */
+    private final MocksBehavior recording;
+
+    private final Collection<Partition> partitions = new ConcurrentLinkedQueue<>();
+
+    private transient ThreadLocal<MocksBehavior> threadToPartition = new ThreadLocal<>();
+
+    public PartitionedMocksBehavior(boolean nice) {
+        this.recording = new MocksBehavior(nice);
+    }
+
+    @Override
+    public void addExpected(ExpectedInvocation expected, Result result, Range count) {
+        recording.addExpected(expected, result, count);
+    }
+
+    @Override
+    public void addStub(ExpectedInvocation expected, Result result) {
+        recording.addStub(expected, result);
+    }
+
+    @Override
+    public void checkOrder(boolean value) {
+        recording.checkOrder(value);
+    }
+
+    @Override
+    public void makeThreadSafe(boolean isThreadSafe) {
+        recording.makeThreadSafe(isThreadSafe);
+    }
+
+    @Override
+    public void shouldBeUsedInOneThread(boolean shouldBeUsedInOneThread) {
+        recording.shouldBeUsedInOneThread(shouldBeUsedInOneThread);
+    }
+
+    @Override
+    public void compileMatchers() {
+        // The expected invocations are shared by the partitions, so they get the compiled matchers as well
+        recording.compileMatchers();
+    }
+
+    @Override
+    public Result addActual(Invocation invocation) {
+        return partition().addActual(invocation);
+    }
+
+    private MocksBehavior partition() {
+        MocksBehavior partition = threadToPartition.get();
+        if (partition == null) {
+            partition = new MocksBehavior(recording);
+            partitions.add(new Partition(Thread.currentThread().getName(), partition));
+            threadToPartition.set(partition);
+        }
+        return partition;
+    }
+
+    @Override
+    public Result getUnrecordedNiceResult(Object mock, Method method) {
+        return recording.getUnrecordedNiceResult(mock, method);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return recording.isThreadSafe();
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        // Each thread has its own partition, nothing to lock
+        return true;
+    }
+
+    @Override
+    public void checkThreadSafety() {
+        recording.checkThreadSafety();
+    }
+
+    @Override
+    public Map<Object, Map<Method, FrozenMethod>> freeze() {
+        return recording.freeze();
+    }
+
+    @Override
+    public void verifyRecording() {
+        verify(MocksBehavior::verifyRecording);
+    }
+
+    @Override
+    public void verifyUnexpectedCalls() {
+        verify(MocksBehavior::verifyUnexpectedCalls);
+    }
+
+    @Override
+    public void verify() {
+        verify(MocksBehavior::verify);
+    }
+
+    /**
+     * Verifies each partition, the failures are reported together. Without any partition, no call was made so it's
+     * the recording which is verified. With a single one, it is reported like a behavior replayed by all threads.
+     */
+    private void verify(Consumer<MocksBehavior> verification) {
+        if (partitions.isEmpty()) {
+            verification.accept(recording);
+            return;
+        }
+        if (partitions.size() == 1) {
+            verification.accept(partitions.iterator().next().behavior);
+            return;
+        }
+        StringBuilder errorMessage = null;
+        for (Partition partition : partitions) {
+            try {
+                verification.accept(partition.behavior);
+            } catch (AssertionErrorWrapper e) {
+                if (errorMessage == null) {
+                    errorMessage = new StringBuilder();
+                }
+                errorMessage.append("\n  In thread ").append(partition.threadName).append(':')
+                    .append(e.getAssertionError().getMessage());
+            }
+        }
+        if (errorMessage != null) {
+            throw new AssertionErrorWrapper(new AssertionError(errorMessage.toString()));
+        }
+    }
+
+    private void readObject(java.io.ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        threadToPartition = new ThreadLocal<>();
+    }
+}
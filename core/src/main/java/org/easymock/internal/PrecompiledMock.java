@@ -0,0 +1,25 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+/**
+ * Marker interface implemented by the mock classes generated at compile time by the EasyMock annotation processor.
+ * Such a class is named after the mocked type with the {@link PrecompiledProxyFactory#CLASS_SUFFIX} suffix. It mocks
+ * every method and holds its {@link ClassMockingData} in a {@link ClassMockMetadata#CALLBACK_FIELD} field like the
+ * class mocks generated at runtime.
+ */
+public interface PrecompiledMock extends ClassMock {
+}
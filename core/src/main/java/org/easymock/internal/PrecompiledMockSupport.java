@@ -0,0 +1,83 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import java.lang.reflect.Method;
+
+/**
+ * Methods called by the mock classes generated at compile time by the EasyMock annotation processor. They are
+ * part of the contract between the processor and EasyMock so they should be kept compatible.
+ */
+public final class PrecompiledMockSupport {
+
+    private PrecompiledMockSupport() {
+    }
+
+    /**
+     * Find the method a precompiled mock overrides. It is the same method a class mock generated at runtime would
+     * receive. So it is the first one declared in the class hierarchy, then an interface method and finally an
+     * {@code Object} method for interfaces.
+     *
+     * @param mockedType the mocked class or interface
+     * @param name name of the method
+     * @param parameterTypes parameter types of the method
+     * @return the method
+     */
+    public static Method method(Class<?> mockedType, String name, Class<?>... parameterTypes) {
+        for (Class<?> c = mockedType; c != null; c = c.getSuperclass()) {
+            try {
+                return BridgeMethodResolver.findBridgedMethod(c.getDeclaredMethod(name, parameterTypes));
+            } catch (NoSuchMethodException e) {
+                // Try the parent
+            }
+        }
+        try {
+            return mockedType.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            // Might be an Object method of an interface mock
+        }
+        try {
+            return Object.class.getDeclaredMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException("Method " + name + " not found on " + mockedType
+                + ", the precompiled mock is outdated", e);
+        }
+    }
+
+    /**
+     * Forward a call on a precompiled mock to its handler. The call can throw anything the handler throws, even a
+     * checked exception the method doesn't declare. It's not a problem since EasyMock validated the exception when it
+     * was recorded.
+     *
+     * @param mock the mock called
+     * @param mockingData the mocking data of the mock
+     * @param method the method called
+     * @param args the arguments of the call
+     * @return the result of the call
+     */
+    public static Object invoke(Object mock, ClassMockingData mockingData, Method method, Object[] args) {
+        try {
+            return mockingData.handler().invoke(mock, method, args);
+        } catch (Throwable t) {
+            throw PrecompiledMockSupport.<RuntimeException>sneakyThrow(t);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T sneakyThrow(Throwable t) throws T {
+        throw (T) t;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import org.easymock.ConstructorArgs;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Factory creating mocks from the mock classes generated at compile time by the EasyMock annotation processor. These
+ * classes only exist for full mocks. So partial mocks and mocks created with constructor arguments are never created
+ * here.
+ */
+public class PrecompiledProxyFactory implements IProxyFactory {
+
+    /**
+     * Suffix added to the binary name of a mocked type to get the name of its precompiled mock class
+     */
+    public static final String CLASS_SUFFIX = "$$EasyMock$Precompiled";
+
+    /**
+     * Precompiled mock class of each mocked type, null if there is none. Not finding a class is costly so it is
+     * remembered as well.
+     */
+    private static final ClassValue<Class<?>> MOCK_CLASSES = new ClassValue<Class<?>>() {
+        @Override
+        protected Class<?> computeValue(Class<?> toMock) {
+            ClassLoader classLoader = toMock.getClassLoader();
+            if (classLoader == null) {
+                return null;
+            }
+            Class<?> mockClass;
+            try {
+                mockClass = Class.forName(toMock.getName() + CLASS_SUFFIX, false, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                return null;
+            }
+            if (!toMock.isAssignableFrom(mockClass) || !PrecompiledMock.class.isAssignableFrom(mockClass)) {
+                return null;
+            }
+            return mockClass;
+        }
+    };
+
+    /**
+     * Tells if a mock class was generated at compile time for this type.
+     *
+     * @param toMock the type to mock
+     * @return if there is a precompiled mock class
+     */
+    public static boolean isPrecompiled(Class<?> toMock) {
+        return MOCK_CLASSES.get(toMock) != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T createProxy(Class<T> toMock, InvocationHandler handler, Method[] mockedMethods,
+            ConstructorArgs constructorArgs) {
+        Class<?> mockClass = MOCK_CLASSES.get(toMock);
+        T mock;
+        try {
+            if (toMock.isInterface()) {
+                // Only Object's constructor is called, no need for Objenesis
+                mock = (T) mockClass.getConstructor().newInstance();
+            } else {
+                mock = (T) ClassInstantiatorFactory.getInstantiator().newInstance(mockClass);
+            }
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            // ///CLOVER:OFF
+            throw new RuntimeException("Fail to instantiate mock for " + toMock + " on "
+                    + ClassInstantiatorFactory.getJVM() + " JVM", e);
+            // ///CLOVER:ON
+        }
+        ClassMockMetadata.of(mockClass).setMockingData(mock, new ClassMockingData(handler));
+        return mock;
+    }
+
+    @Override
+    public InvocationHandler getInvocationHandler(Object mock) {
+        return ClassMockMetadata.of(mock.getClass()).getMockingData(mock).handler();
+    }
+}
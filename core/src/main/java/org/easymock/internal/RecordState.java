@@ -15,10 +15,12 @@
  */
 package org.easymock.internal;
 
+import org.easymock.EasyMock;
 import org.easymock.IAnswer;
 import org.easymock.IArgumentMatcher;
 
 import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.util.List;
 
 /**
@@ -52,7 +54,17 @@ public class RecordState implements IMocksControlState, Serializable {
         List<IArgumentMatcher> lastMatchers = LastControl.pullMatchers();
         lastInvocation = new ExpectedInvocation(invocation, lastMatchers);
         lastInvocationUsed = false;
-        return emptyReturnValueFor(invocation.getMethod().getReturnType());
+        return MethodInfo.of(invocation.getMethod()).getEmptyReturnValue();
+    }
+
+    @Override
+    public void freeze() {
+        // Closing the last call would record it as an expectation, so it is checked before
+        boolean pending = !lastInvocationUsed || lastResult != null;
+        if (pending && isLastResultOrVoidMethod()) {
+            throw new RuntimeExceptionWrapper(new IllegalStateException(MocksBehavior.ONLY_STUBS_WHEN_FROZEN));
+        }
+        replay();
     }
 
     @Override
@@ -99,7 +111,7 @@ public class RecordState implements IMocksControlState, Serializable {
         if (lastResult != null) {
             times(MocksControl.ONCE);
         }
-        lastResult = Result.createThrowResult(throwable);
+        lastResult = Result.createThrowResult(throwable, !isFastThrow());
     }
 
     @Override
@@ -159,7 +171,7 @@ public class RecordState implements IMocksControlState, Serializable {
         if (lastResult != null) {
             times(MocksControl.ONCE);
         }
-        behavior.addStub(lastInvocation, Result.createThrowResult(throwable));
+        behavior.addStub(lastInvocation, Result.createThrowResult(throwable, !isFastThrow()));
         lastInvocationUsed = true;
     }
 
@@ -218,7 +230,7 @@ public class RecordState implements IMocksControlState, Serializable {
     }
 
     private Object convertNumberClassIfNecessary(Object o) {
-        Class<?> returnType = lastInvocation.getMethod().getReturnType();
+        Class<?> returnType = MethodInfo.of(lastInvocation.getMethod()).getReturnType();
         return createNumberObject(o, returnType);
     }
 
@@ -250,14 +262,14 @@ public class RecordState implements IMocksControlState, Serializable {
             throw new RuntimeExceptionWrapper(new IllegalStateException("void method cannot return a value"));
         }
         if (returnValue == null) {
-            Class<?> returnedType = lastInvocation.getMethod().getReturnType();
+            Class<?> returnedType = MethodInfo.of(lastInvocation.getMethod()).getReturnType();
             if (returnedType.isPrimitive()) {
                 throw new RuntimeExceptionWrapper(new IllegalStateException(
                         "can't return null for a method returning a primitive type"));
             }
             return;
         }
-        Class<?> returnedType = lastInvocation.getMethod().getReturnType();
+        Class<?> returnedType = MethodInfo.of(lastInvocation.getMethod()).getReturnType();
         if (returnedType.isPrimitive()) {
             returnedType = PrimitiveUtils.getWrapperType(returnedType);
 
@@ -285,13 +297,20 @@ public class RecordState implements IMocksControlState, Serializable {
         }
     }
 
+    private static boolean isFastThrow() {
+        return Boolean.parseBoolean(EasyMockProperties.getInstance().getProperty(EasyMock.FAST_THROW));
+    }
+
     private void requireValidDelegation(Object delegateTo) {
         if (delegateTo == null) {
             throw new RuntimeExceptionWrapper(
                     new NullPointerException("delegated to object must not be null"));
         }
-        // Would be nice to validate delegateTo is implementing the mock
-        // interface (not possible right now)
+        Method method = lastInvocation.getMethod();
+        if (!method.getDeclaringClass().isInstance(delegateTo)) {
+            throw new RuntimeExceptionWrapper(new IllegalArgumentException("Delegation to object [" + delegateTo
+                    + "] is not implementing the mocked method [" + method + "]"));
+        }
     }
 
     private void requireLastResultOrVoidMethod() {
@@ -315,8 +334,7 @@ public class RecordState implements IMocksControlState, Serializable {
     }
 
     private boolean lastMethodIsVoidMethod() {
-        Class<?> returnType = lastInvocation.getMethod().getReturnType();
-        return returnType.equals(Void.TYPE);
+        return MethodInfo.of(lastInvocation.getMethod()).isVoid();
     }
 
     private boolean isValidThrowable(Throwable throwable) {
@@ -326,7 +344,7 @@ public class RecordState implements IMocksControlState, Serializable {
         if (throwable instanceof Error) {
             return true;
         }
-        Class<?>[] exceptions = lastInvocation.getMethod().getExceptionTypes();
+        Class<?>[] exceptions = MethodInfo.of(lastInvocation.getMethod()).getExceptionTypes();
         Class<?> throwableClass = throwable.getClass();
         for (Class<?> exception : exceptions) {
             if (exception.isAssignableFrom(throwableClass)) {
@@ -18,6 +18,7 @@ package org.easymock.internal;
 import org.easymock.IAnswer;
 
 import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -38,41 +39,73 @@ public class ReplayState implements IMocksControlState, Serializable {
         this.behavior = behavior;
     }
 
+    protected IMocksBehavior getBehavior() {
+        return behavior;
+    }
+
+    /**
+     * Answer a call without creating an {@link Invocation} when possible.
+     *
+     * @param mock the mock called
+     * @param method the method called
+     * @param args the arguments of the call
+     * @return the answer
+     * @throws Throwable the exception thrown by the answer
+     */
+    public Object invoke(Object mock, Method method, Object[] args) throws Throwable {
+        // Nothing to match, count or lock, the empty value is returned right away
+        Result result = behavior.getUnrecordedNiceResult(mock, method);
+        if (result != null) {
+            behavior.checkThreadSafety();
+            return result.answer();
+        }
+        return invoke(new Invocation(mock, method, args));
+    }
+
     @Override
     public Object invoke(Invocation invocation) throws Throwable {
 
         behavior.checkThreadSafety();
 
-        if (behavior.isThreadSafe()) {
-            // If thread safe, synchronize the mock
+        // The current invocation stays available until the answer is given, getCurrentArguments() is used in answers
+        Invocation previous = LastControl.pushCurrentInvocation(invocation);
+        try {
+            if (!isLocked()) {
+                return answer(behavior.addActual(invocation));
+            }
+            // If thread safe, synchronize the mock, answer included. So the answers are given one at a time
             lock.lock();
             try {
-                return invokeInner(invocation);
+                return answer(behavior.addActual(invocation));
             } finally {
                 lock.unlock();
             }
+        } finally {
+            LastControl.popCurrentInvocation(previous);
         }
-
-        return invokeInner(invocation);
     }
 
-    private Object invokeInner(Invocation invocation) throws Throwable {
-        LastControl.pushCurrentInvocation(invocation);
+    private static Object answer(Result result) throws Throwable {
         try {
-            Result result = behavior.addActual(invocation);
-            try {
-                return result.answer();
-            } catch (Throwable t) {
-                if (result.shouldFillInStackTrace()) {
-                    throw new ThrowableWrapper(t);
-                }
-                throw t;
+            return result.answer();
+        } catch (Throwable t) {
+            if (result.shouldFillInStackTrace()) {
+                throw new ThrowableWrapper(t);
             }
-        } finally {
-            LastControl.popCurrentInvocation();
+            throw t;
         }
     }
 
+    /**
+     * Tells if a call is locked until it is answered. A behavior replaying concurrently isn't locked, its answers are
+     * then given concurrently as well. See {@link org.easymock.EasyMock#CONCURRENT_REPLAY}.
+     *
+     * @return if the calls are locked
+     */
+    boolean isLocked() {
+        return behavior.isThreadSafe() && !behavior.isConcurrent();
+    }
+
     @Override
     public void verifyRecording() {
         behavior.verifyRecording();
@@ -93,6 +126,11 @@ public class ReplayState implements IMocksControlState, Serializable {
         throwWrappedIllegalStateException();
     }
 
+    @Override
+    public void freeze() {
+        throwWrappedIllegalStateException();
+    }
+
     public void callback(Runnable runnable) {
         throwWrappedIllegalStateException();
     }
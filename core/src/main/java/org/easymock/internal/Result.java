@@ -18,9 +18,12 @@ package org.easymock.internal;
 import org.easymock.IAnswer;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Array;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * The result of an invocation on a mock. It can be a direct constant or the result of some computation.
@@ -31,16 +34,43 @@ public final class Result implements IAnswer<Object>, Serializable {
 
     private static final long serialVersionUID = 5476251941213917681L;
 
+    private static final Result NULL_RESULT = createReturnResult(null);
+
+    private static final Map<Class<?>, Result> EMPTY_RESULTS = new HashMap<>(9);
+
+    static {
+        for (Class<?> type : new Class<?>[] { void.class, boolean.class, byte.class, short.class, char.class,
+                int.class, long.class, float.class, double.class }) {
+            EMPTY_RESULTS.put(type, createReturnResult(PrimitiveUtils.getEmptyValue(type)));
+        }
+    }
+
     private final IAnswer<?> value;
 
     private final boolean shouldFillInStackTrace;
 
+    private final boolean returning;
+
     private Result(IAnswer<?> value, boolean shouldFillInStackTrace) {
+        this(value, shouldFillInStackTrace, false);
+    }
+
+    private Result(IAnswer<?> value, boolean shouldFillInStackTrace, boolean returning) {
         this.value = value;
         this.shouldFillInStackTrace = shouldFillInStackTrace;
+        this.returning = returning;
+    }
+
+    public static Result createThrowResult(Throwable throwable) {
+        return createThrowResult(throwable, true);
     }
 
-    public static Result createThrowResult(final Throwable throwable) {
+    /**
+     * @param throwable the throwable to throw
+     * @param fillInStackTrace if the stack trace of the throwable is filled again each time it is thrown
+     * @return the result throwing the throwable
+     */
+    public static Result createThrowResult(final Throwable throwable, boolean fillInStackTrace) {
         class ThrowingAnswer implements IAnswer<Object>, Serializable {
 
             private static final long serialVersionUID = -332797751209289222L;
@@ -54,7 +84,7 @@ public final class Result implements IAnswer<Object>, Serializable {
                 return "Answer throwing " + throwable;
             }
         }
-        return new Result(new ThrowingAnswer(), true);
+        return new Result(new ThrowingAnswer(), fillInStackTrace);
     }
 
     public static Result createReturnResult(final Object value) {
@@ -71,7 +101,18 @@ public final class Result implements IAnswer<Object>, Serializable {
                 return "Answer returning " + value;
             }
         }
-        return new Result(new ReturningAnswer(), true);
+        return new Result(new ReturningAnswer(), true, true);
+    }
+
+    /**
+     * Returns the result returning the empty value of a type, like a nice mock does. It is shared, so nothing is
+     * allocated.
+     *
+     * @param type the return type
+     * @return the result returning {@code null}, {@code 0} or {@code false}
+     */
+    public static Result createEmptyReturnResult(Class<?> type) {
+        return type.isPrimitive() ? EMPTY_RESULTS.get(type) : NULL_RESULT;
     }
 
     public static Result createDelegatingResult(final Object value) {
@@ -79,55 +120,124 @@ public final class Result implements IAnswer<Object>, Serializable {
 
             private static final long serialVersionUID = -5699326678580460103L;
 
+            // The infos of the method last delegated, it's almost always the same
+            private transient MethodInfo info;
+
             public Object answer() throws Throwable {
                 Invocation invocation = LastControl.getCurrentInvocation();
                 if (invocation == null) {
                     throw new IllegalStateException("Call was performed outside of a mock invocation");
                 }
-                try {
-                    Method m = invocation.getMethod();
-                    if(!m.isAccessible()) {
-                        m.setAccessible(true);
-                    }
-                    return m.invoke(value, convertVarargs(m, invocation.getArguments()));
-                } catch (IllegalArgumentException e) {
-                    throw new IllegalArgumentException("Delegation to object [" + value
-                            + "] is not implementing the mocked method [" + invocation.getMethod() + "]", e);
-                } catch (InvocationTargetException e) {
-                    throw e.getCause();
+                Method m = invocation.getMethod();
+                MethodInfo info = this.info;
+                if (info == null || info.getMethod() != m) {
+                    info = this.info = MethodInfo.of(m);
                 }
+                return invokeDelegate(info.getSpreadInvoker(), value, convertVarargs(info, invocation.getArguments()));
             }
 
-            private Object[] convertVarargs(Method method, Object[] arguments) {
-                if(!method.isVarArgs()) {
-                    return arguments;
-                }
-                Class<?>[] paramTypes = method.getParameterTypes();
-                Object[] packedArguments = new Object[paramTypes.length];
+            @Override
+            public String toString() {
+                return "Delegated to " + value;
+            }
+        }
+        return new Result(new DelegatingAnswer(), false);
+    }
 
-                int normalArgLength = paramTypes.length - 1;
-                int varargLength = arguments.length - paramTypes.length + 1;
+    @IgnoreAnimalSniffer // It reports errors on MethodHandle.invokeExact
+    private static Object invokeDelegate(MethodHandle handle, Object delegate, Object[] arguments) throws Throwable {
+        return (Object) handle.invokeExact(delegate, arguments);
+    }
 
-                // Copy all the non varargs arguments
-                System.arraycopy(arguments, 0, packedArguments, 0, normalArgLength);
+    /**
+     * The arguments of a varargs invocation are expanded. Pack the trailing ones back into an array of the varargs
+     * component type.
+     */
+    private static Object[] convertVarargs(MethodInfo info, Object[] arguments) {
+        if(!info.isVarArgs()) {
+            return arguments;
+        }
+        int parameterCount = info.getParameterCount();
+        Object[] packedArguments = new Object[parameterCount];
 
-                // Now copy the varargs ones to a new array
-                Object varargs = Array.newInstance(paramTypes[packedArguments.length-1].getComponentType(), varargLength);
-                for (int i = 0; i < varargLength; i++) {
-                    Array.set(varargs, i, arguments[normalArgLength + i]);
-                }
+        int normalArgLength = parameterCount - 1;
 
-                // Put the vararg at the last place
-                packedArguments[packedArguments.length - 1] = varargs;
-                return packedArguments;
-            }
+        // Copy all the non varargs arguments
+        System.arraycopy(arguments, 0, packedArguments, 0, normalArgLength);
 
-            @Override
-            public String toString() {
-                return "Delegated to " + value;
+        // Put the vararg at the last place
+        try {
+            packedArguments[normalArgLength] = packVarargs(info.getVarArgsComponentType(), arguments, normalArgLength);
+        } catch (NullPointerException e) {
+            // A null can't be unboxed into the primitive array. Reported like Array.set used to
+            throw new IllegalArgumentException("Null element in the primitive varargs of [" + info.getMethod()
+                    + "] can't be passed to the delegate", e);
+        }
+        return packedArguments;
+    }
+
+    // One loop per component type, unboxing directly instead of going through the reflective Array.set
+    private static Object packVarargs(Class<?> componentType, Object[] arguments, int from) {
+        int length = arguments.length - from;
+        if (!componentType.isPrimitive()) {
+            Object varargs = Array.newInstance(componentType, length);
+            System.arraycopy(arguments, from, varargs, 0, length);
+            return varargs;
+        }
+        if (componentType == int.class) {
+            int[] varargs = new int[length];
+            for (int i = 0; i < length; i++) {
+                varargs[i] = (Integer) arguments[from + i];
             }
+            return varargs;
         }
-        return new Result(new DelegatingAnswer(), false);
+        if (componentType == long.class) {
+            long[] varargs = new long[length];
+            for (int i = 0; i < length; i++) {
+                varargs[i] = (Long) arguments[from + i];
+            }
+            return varargs;
+        }
+        if (componentType == double.class) {
+            double[] varargs = new double[length];
+            for (int i = 0; i < length; i++) {
+                varargs[i] = (Double) arguments[from + i];
+            }
+            return varargs;
+        }
+        if (componentType == boolean.class) {
+            boolean[] varargs = new boolean[length];
+            for (int i = 0; i < length; i++) {
+                varargs[i] = (Boolean) arguments[from + i];
+            }
+            return varargs;
+        }
+        if (componentType == byte.class) {
+            byte[] varargs = new byte[length];
+            for (int i = 0; i < length; i++) {
+                varargs[i] = (Byte) arguments[from + i];
+            }
+            return varargs;
+        }
+        if (componentType == char.class) {
+            char[] varargs = new char[length];
+            for (int i = 0; i < length; i++) {
+                varargs[i] = (Character) arguments[from + i];
+            }
+            return varargs;
+        }
+        if (componentType == short.class) {
+            short[] varargs = new short[length];
+            for (int i = 0; i < length; i++) {
+                varargs[i] = (Short) arguments[from + i];
+            }
+            return varargs;
+        }
+        float[] varargs = new float[length];
+        for (int i = 0; i < length; i++) {
+            varargs[i] = (Float) arguments[from + i];
+        }
+        return varargs;
     }
 
     public static Result createAnswerResult(IAnswer<?> answer) {
@@ -142,6 +252,32 @@ public final class Result implements IAnswer<Object>, Serializable {
         return shouldFillInStackTrace;
     }
 
+    /**
+     * @return if the answer is a value returned as is. It doesn't need to know about the call
+     */
+    public boolean isReturning() {
+        return returning;
+    }
+
+    /**
+     * @param other another result
+     * @return if both results give the same answer to any call: they are the same or return equal values
+     */
+    public boolean isSameAnswer(Result other) {
+        if (value == other.value) {
+            return true;
+        }
+        if (!returning || !other.returning) {
+            return false;
+        }
+        try {
+            return Objects.equals(value.answer(), other.value.answer());
+        } catch (Throwable t) {
+            // Can't happen, a returning answer only returns its value
+            throw new AssertionError(t);
+        }
+    }
+
     @Override
     public String toString() {
         return value.toString();
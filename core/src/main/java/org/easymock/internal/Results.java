@@ -17,7 +17,9 @@ package org.easymock.internal;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The results of a specific call on a mock. It's plural because a specific call can be called multiple times and so
@@ -27,14 +29,29 @@ import java.util.List;
  */
 public class Results implements Serializable {
 
-    private static final long serialVersionUID = -2722051869610289637L;
+    private static final long serialVersionUID = 3418870625153727392L;
 
-    private int callCount;
+    /**
+     * Calls are claimed with a CAS, so many threads can replay the same expectation without a lock
+     */
+    private final AtomicInteger callCount = new AtomicInteger();
 
     private final List<Range> ranges = new ArrayList<>();
 
     private final List<Result> results = new ArrayList<>();
 
+    // Running totals of the ranges. They are kept up to date when adding a range to prevent rescanning all the
+    // ranges on each call. Longs are used because the sum of the maximums can overflow an int
+
+    private long minimum;
+
+    private long maximum;
+
+    private boolean openCount;
+
+    /** Number of calls covered by each range and the ones before it */
+    private long[] rangeEnds = new long[1];
+
     public void add(Result result, Range range) {
         if (!ranges.isEmpty()) {
             Range lastRange = ranges.get(ranges.size() - 1);
@@ -43,43 +60,92 @@ public class Results implements Serializable {
                         "last method called on mock already has a non-fixed count set."));
             }
         }
+        minimum += range.getMinimum();
+        maximum += range.getMaximum();
+        openCount |= range.hasOpenCount();
+
+        if (ranges.size() == rangeEnds.length) {
+            rangeEnds = Arrays.copyOf(rangeEnds, rangeEnds.length * 2);
+        }
+        rangeEnds[ranges.size()] = maximum;
         ranges.add(range);
         results.add(result);
     }
 
+    /**
+     * @return the same results, without any call made
+     */
+    public Results copy() {
+        Results copy = new Results();
+        for (int i = 0; i < ranges.size(); i++) {
+            copy.add(results.get(i), ranges.get(i));
+        }
+        return copy;
+    }
+
     public boolean hasResults() {
-        int currentPosition = 0;
-        for (Range interval : ranges) {
-            if (interval.hasOpenCount()) {
-                return true;
+        return hasResults(callCount.get());
+    }
+
+    private boolean hasResults(int calls) {
+        return openCount || calls < maximum;
+    }
+
+    public Result next() {
+        int call = claim();
+        return call < 0 ? null : get(call);
+    }
+
+    /**
+     * Claim the next call. Each concurrent caller gets its own call number.
+     *
+     * @return the number of calls made before this one, -1 if no result is left
+     */
+    public int claim() {
+        while (true) {
+            int calls = callCount.get();
+            if (!hasResults(calls)) {
+                return -1;
             }
-            currentPosition += interval.getMaximum();
-            if (currentPosition > callCount) {
-                return true;
+            if (callCount.compareAndSet(calls, calls + 1)) {
+                return calls;
             }
         }
-        return false;
     }
 
-    public Result next() {
-        int currentPosition = 0;
-        for (int i = 0; i < ranges.size(); i++) {
-            Range interval = ranges.get(i);
-            if (interval.hasOpenCount()) {
-                callCount += 1;
-                return results.get(i);
-            }
-            currentPosition += interval.getMaximum();
-            if (currentPosition > callCount) {
-                callCount += 1;
-                return results.get(i);
+    /**
+     * Returns the result of a claimed call.
+     *
+     * @param call the number returned by {@link #claim()}
+     * @return the result for this call
+     */
+    public Result get(int call) {
+        // The first range ending after this call. Only the last range can be open so it takes whatever is left
+        int low = 0;
+        int high = ranges.size() - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (rangeEnds[middle] > call) {
+                high = middle;
+            } else {
+                low = middle + 1;
             }
         }
-        return null;
+        return results.get(low);
     }
 
     public boolean hasValidCallCount() {
-        return getMainInterval().contains(callCount);
+        return hasValidCallCount(callCount.get());
+    }
+
+    /**
+     * Tells if a given number of calls would be valid.
+     *
+     * @param calls number of calls
+     * @return if this number of calls is expected
+     */
+    public boolean hasValidCallCount(int calls) {
+        return calls >= minimum && (openCount || calls <= maximum);
     }
 
     @Override
@@ -88,21 +154,11 @@ public class Results implements Serializable {
     }
 
     private Range getMainInterval() {
-        int min = 0, max = 0;
-
-        for (Range interval : ranges) {
-            min += interval.getMinimum();
-            if (interval.hasOpenCount() || max == Integer.MAX_VALUE) {
-                max = Integer.MAX_VALUE;
-            } else {
-                max += interval.getMaximum();
-            }
-        }
-
-        return new Range(min, max);
+        int max = openCount || maximum >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) maximum;
+        return new Range((int) Math.min(minimum, max), max);
     }
 
     public int getCallCount() {
-        return callCount;
+        return callCount.get();
     }
 }
@@ -28,6 +28,8 @@ public class ThrowableWrapper extends Throwable {
     private final Throwable throwable;
 
     public ThrowableWrapper(Throwable throwable) {
+        // Only carries the throwable, its own stack trace is never used
+        super(null, null, false, false);
         this.throwable = throwable;
     }
 
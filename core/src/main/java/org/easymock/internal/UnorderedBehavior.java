@@ -15,9 +15,13 @@
  */
 package org.easymock.internal;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A bit badly named since this class is used for both ordered and unordered expectations. However, it's the class
@@ -32,26 +36,78 @@ public class UnorderedBehavior implements Serializable {
 
     private final List<ExpectedInvocationAndResults> results = new ArrayList<>();
 
+    /**
+     * Same content as {@code results} but indexed by expected invocation to only look at the possible candidates
+     */
+    private transient ExpectationIndex<ExpectedInvocationAndResults> index = new ExpectationIndex<>();
+
+    /**
+     * Same content as {@code results} but indexed by expected invocation to quickly find an existing entry when recording
+     */
+    private transient Map<ExpectedInvocation, ExpectedInvocationAndResults> entries = new HashMap<>();
+
     private final boolean checkOrder;
 
+    /**
+     * Number of entries not having a valid call count. Kept up to date to make {@link #verify()} constant time
+     */
+    private final AtomicInteger invalidCallCounts = new AtomicInteger();
+
     public UnorderedBehavior(boolean checkOrder) {
         this.checkOrder = checkOrder;
     }
 
     public void addExpected(ExpectedInvocation expected, Result result, Range count) {
-        for (ExpectedInvocationAndResults entry : results) {
-            if (entry.getExpectedInvocation().equals(expected)) {
-                entry.getResults().add(result, count);
-                return;
-            }
+        ExpectedInvocationAndResults entry = entries.get(expected);
+        if (entry != null) {
+            Results list = entry.getResults();
+            boolean wasValid = list.hasValidCallCount();
+            list.add(result, count);
+            updateInvalidCallCounts(wasValid, list.hasValidCallCount());
+            return;
         }
         Results list = new Results();
         list.add(result, count);
-        results.add(new ExpectedInvocationAndResults(expected, list));
+        entry = new ExpectedInvocationAndResults(expected, list);
+        results.add(entry);
+        index(entry);
+        updateInvalidCallCounts(true, list.hasValidCallCount());
     }
 
-    public Result addActual(Invocation actual) {
+    private void updateInvalidCallCounts(boolean wasValid, boolean isValid) {
+        if (wasValid && !isValid) {
+            invalidCallCounts.incrementAndGet();
+        } else if (!wasValid && isValid) {
+            invalidCallCounts.decrementAndGet();
+        }
+    }
+
+    private void index(ExpectedInvocationAndResults entry) {
+        ExpectedInvocation expected = entry.getExpectedInvocation();
+        index.add(expected, entry);
+        entries.put(expected, entry);
+    }
+
+    /**
+     * @return the same expectations, without any call made
+     */
+    public UnorderedBehavior copy() {
+        UnorderedBehavior copy = new UnorderedBehavior(checkOrder);
         for (ExpectedInvocationAndResults entry : results) {
+            Results list = entry.getResults().copy();
+            ExpectedInvocationAndResults entryCopy = new ExpectedInvocationAndResults(entry.getExpectedInvocation(), list);
+            copy.results.add(entryCopy);
+            copy.index(entryCopy);
+            copy.updateInvalidCallCounts(true, list.hasValidCallCount());
+        }
+        return copy;
+    }
+
+    public Result addActual(Invocation actual) {
+        // Only the expectations on the same mock and method, expecting the same values, can match
+        List<ExpectedInvocationAndResults> candidates = index.get(actual);
+        for (int i = 0; i < candidates.size(); i++) {
+            ExpectedInvocationAndResults entry = candidates.get(i);
             try {
                 // if no results are available anymore, it's worthless to try to match
                 if (!entry.getResults().hasResults()) {
@@ -61,10 +117,17 @@ public class UnorderedBehavior implements Serializable {
                 if (!entry.getExpectedInvocation().matches(actual)) {
                     continue;
                 }
-                Result result = entry.getResults().next();
+                Results list = entry.getResults();
+                int call = list.claim();
+                // another thread might have taken the last result in the meantime
+                if (call < 0) {
+                    continue;
+                }
+                // the validity is computed from the claimed call since other threads might be claiming calls as well
+                updateInvalidCallCounts(list.hasValidCallCount(call), list.hasValidCallCount(call + 1));
                 // actual and expected matched, validate the capture
                 actual.validateCaptures();
-                return result;
+                return list.get(call);
             } finally {
                 // reset the capture (already validated or expected didn't
                 // matched)
@@ -74,13 +137,36 @@ public class UnorderedBehavior implements Serializable {
         return null;
     }
 
-    public boolean verify() {
-        for (ExpectedInvocationAndResults entry : results) {
-            if (!entry.getResults().hasValidCallCount()) {
-                return false;
+    /**
+     * Finds the first expectation matching a call, whatever its call count. Nothing is claimed and the captures are
+     * left unvalidated.
+     *
+     * @param actual the call
+     * @return the matching expectation, null if none
+     */
+    public ExpectedInvocationAndResults getMatching(Invocation actual) {
+        for (ExpectedInvocationAndResults entry : index.get(actual)) {
+            try {
+                if (entry.getExpectedInvocation().matches(actual)) {
+                    return entry;
+                }
+            } finally {
+                actual.clearCaptures();
             }
         }
-        return true;
+        return null;
+    }
+
+    public boolean verify() {
+        return invalidCallCounts.get() == 0;
+    }
+
+    public List<ExpectedInvocationAndResults> getExpectations() {
+        return results;
+    }
+
+    public boolean isCheckOrder() {
+        return checkOrder;
     }
 
     public List<ErrorMessage> getMessages(Invocation invocation) {
@@ -113,4 +199,13 @@ public class UnorderedBehavior implements Serializable {
         }
     }
 
+    private void readObject(java.io.ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        index = new ExpectationIndex<>();
+        entries = new HashMap<>();
+        for (ExpectedInvocationAndResults entry : results) {
+            index(entry);
+        }
+    }
+
 }
@@ -15,6 +15,7 @@
  */
 package org.easymock.internal.matchers;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.List;
@@ -26,12 +27,19 @@ import org.easymock.IArgumentMatcher;
  *
  * @author OFFIS, Tammo Freese
  */
-public class And implements IArgumentMatcher, Serializable {
+public class And implements IntArgumentMatcher, LongArgumentMatcher, DoubleArgumentMatcher, Serializable {
 
     private static final long serialVersionUID = 3874580646798403818L;
 
     private final List<IArgumentMatcher> matchers;
 
+    /**
+     * Same as {@code matchers} for the primitive matching. Iterating the list casts each matcher to
+     * {@link IArgumentMatcher} before it is checked against a primitive matcher interface. HotSpot only caches the
+     * last interface a class was checked against, so alternating the two is very slow (JDK-8180450).
+     */
+    private transient IArgumentMatcher[] array;
+
     /**
      * Creates a new And matcher from a list of matchers that should match altogether.
      *
@@ -39,6 +47,11 @@ public class And implements IArgumentMatcher, Serializable {
      */
     public And(List<IArgumentMatcher> matchers) {
         this.matchers = matchers;
+        this.array = matchers.toArray(new IArgumentMatcher[0]);
+    }
+
+    List<IArgumentMatcher> getMatchers() {
+        return matchers;
     }
 
     @Override
@@ -51,6 +64,36 @@ public class And implements IArgumentMatcher, Serializable {
         return true;
     }
 
+    @Override
+    public boolean matches(int actual) {
+        for (IArgumentMatcher matcher : array) {
+            if (!IntArgumentMatcher.matches(matcher, actual)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean matches(long actual) {
+        for (IArgumentMatcher matcher : array) {
+            if (!LongArgumentMatcher.matches(matcher, actual)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean matches(double actual) {
+        for (IArgumentMatcher matcher : array) {
+            if (!DoubleArgumentMatcher.matches(matcher, actual)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void appendTo(StringBuffer buffer) {
         buffer.append("and(");
@@ -62,4 +105,9 @@ public class And implements IArgumentMatcher, Serializable {
         }
         buffer.append(")");
     }
+
+    private void readObject(java.io.ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        array = matchers.toArray(new IArgumentMatcher[0]);
+    }
 }
@@ -24,7 +24,7 @@ import org.easymock.IArgumentMatcher;
  *
  * @author OFFIS, Tammo Freese
  */
-public final class Any implements IArgumentMatcher, Serializable {
+public final class Any implements IntArgumentMatcher, LongArgumentMatcher, DoubleArgumentMatcher, Serializable {
 
     private static final long serialVersionUID = -3743894206806704049L;
 
@@ -39,6 +39,21 @@ public final class Any implements IArgumentMatcher, Serializable {
         return true;
     }
 
+    @Override
+    public boolean matches(int actual) {
+        return true;
+    }
+
+    @Override
+    public boolean matches(long actual) {
+        return true;
+    }
+
+    @Override
+    public boolean matches(double actual) {
+        return true;
+    }
+
     @Override
     public void appendTo(StringBuffer buffer) {
         buffer.append("<any>");
@@ -35,8 +35,6 @@ public class Captures<T> implements IArgumentMatcher, Serializable {
 
     private final Capture<T> capture;
 
-    private T potentialValue;
-
     public Captures(Capture<T> captured) {
         this.capture = captured;
     }
@@ -46,10 +44,6 @@ public class Captures<T> implements IArgumentMatcher, Serializable {
         buffer.append("capture(").append(capture).append(")");
     }
 
-    public void setPotentialValue(T potentialValue) {
-        this.potentialValue = potentialValue;
-    }
-
     @SuppressWarnings("unchecked")
     @Override
     public boolean matches(Object actual) {
@@ -57,7 +51,10 @@ public class Captures<T> implements IArgumentMatcher, Serializable {
         return true;
     }
 
-    public void validateCapture() {
-        capture.setValue(potentialValue);
+    public void validateCapture(T value) {
+        // Mocks replayed concurrently can capture at the same time
+        synchronized (capture) {
+            capture.setValue(value);
+        }
     }
 }
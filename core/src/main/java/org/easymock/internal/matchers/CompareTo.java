@@ -27,7 +27,7 @@ import org.easymock.IArgumentMatcher;
  *
  * @author Henri Tremblay
  */
-public abstract class CompareTo<T extends Comparable<T>> implements IArgumentMatcher, Serializable {
+public abstract class CompareTo<T extends Comparable<T>> implements IntArgumentMatcher, LongArgumentMatcher, DoubleArgumentMatcher, Serializable {
 
     private static final long serialVersionUID = -8447010713532143168L;
 
@@ -47,6 +47,30 @@ public abstract class CompareTo<T extends Comparable<T>> implements IArgumentMat
         return matchResult(((Comparable) actual).compareTo(expected));
     }
 
+    @Override
+    public boolean matches(int actual) {
+        if (expected instanceof Integer) {
+            return matchResult(Integer.compare(actual, (Integer) expected));
+        }
+        return matches((Object) actual);
+    }
+
+    @Override
+    public boolean matches(long actual) {
+        if (expected instanceof Long) {
+            return matchResult(Long.compare(actual, (Long) expected));
+        }
+        return matches((Object) actual);
+    }
+
+    @Override
+    public boolean matches(double actual) {
+        if (expected instanceof Double) {
+            return matchResult(Double.compare(actual, (Double) expected));
+        }
+        return matches((Object) actual);
+    }
+
     @Override
     public void appendTo(StringBuffer buffer) {
         buffer.append(getName()).append("(").append(expected).append(")");
@@ -25,7 +25,7 @@ import org.easymock.internal.ArgumentToString;
  *
  * @author OFFIS, Tammo Freese
  */
-public class Equals implements IArgumentMatcher, Serializable {
+public class Equals implements IntArgumentMatcher, LongArgumentMatcher, DoubleArgumentMatcher, Serializable {
 
     private static final long serialVersionUID = 583055160049982067L;
 
@@ -42,11 +42,25 @@ public class Equals implements IArgumentMatcher, Serializable {
         return expected.equals(actual);
     }
 
+    public boolean matches(int actual) {
+        return expected instanceof Integer && (Integer) expected == actual;
+    }
+
+    public boolean matches(long actual) {
+        return expected instanceof Long && (Long) expected == actual;
+    }
+
+    public boolean matches(double actual) {
+        // Like Double.equals
+        return expected instanceof Double
+                && Double.doubleToLongBits((Double) expected) == Double.doubleToLongBits(actual);
+    }
+
     public void appendTo(StringBuffer buffer) {
         ArgumentToString.appendArgument(expected, buffer);
     }
 
-    protected final Object getExpected() {
+    public final Object getExpected() {
         return expected;
     }
 
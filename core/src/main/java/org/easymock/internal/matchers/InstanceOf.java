@@ -34,6 +34,10 @@ public class InstanceOf implements IArgumentMatcher, Serializable {
         this.clazz = clazz;
     }
 
+    Class<?> getClazz() {
+        return clazz;
+    }
+
     @Override
     public boolean matches(Object actual) {
         return (actual != null) && clazz.isAssignableFrom(actual.getClass());
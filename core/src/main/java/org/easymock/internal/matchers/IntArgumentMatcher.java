@@ -0,0 +1,45 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal.matchers;
+
+import org.easymock.IArgumentMatcher;
+
+/**
+ * A matcher able to match a {@code int} argument without boxing it. It must match like
+ * {@link IArgumentMatcher#matches(Object)} would match the boxed value.
+ */
+public interface IntArgumentMatcher extends IArgumentMatcher {
+
+    /**
+     * @param actual the argument
+     * @return whether this matcher accepts the given argument
+     */
+    boolean matches(int actual);
+
+    /**
+     * Matches without boxing if the matcher allows it.
+     *
+     * @param matcher any matcher
+     * @param actual the argument
+     * @return whether the matcher accepts the given argument
+     */
+    static boolean matches(IArgumentMatcher matcher, int actual) {
+        if (matcher instanceof IntArgumentMatcher) {
+            return ((IntArgumentMatcher) matcher).matches(actual);
+        }
+        return matcher.matches((Integer) actual);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal.matchers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+
+import org.easymock.IArgumentMatcher;
+
+/**
+ * Compiles the matchers of an expectation into a single {@link MethodHandle} predicate taking the arguments of the
+ * call. The well-known matchers are turned into method handles with their expected value bound as a constant, composite
+ * matchers into {@code guardWithTest} chains short-circuiting like their {@code matches} method. Any other matcher is
+ * called through {@link IArgumentMatcher#matches(Object)}. So matchers are called in the same order, and only when
+ * they would have been called otherwise.
+ */
+public final class MatcherCompiler {
+
+    private static final MethodHandle TRUE;
+
+    private static final MethodHandle FALSE;
+
+    private static final MethodHandle ARRAY_FALSE;
+
+    private static final MethodHandle NOT;
+
+    private static final MethodHandle IS_NULL;
+
+    private static final MethodHandle IS_NOT_NULL;
+
+    private static final MethodHandle SAME;
+
+    private static final MethodHandle EQUALS;
+
+    private static final MethodHandle IS_INSTANCE;
+
+    private static final MethodHandle MATCHES;
+
+    private static final MethodHandle HAS_LENGTH;
+
+    private static final MethodHandle ELEMENT;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodType predicate = MethodType.methodType(boolean.class, Object.class);
+        try {
+            TRUE = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, Object.class);
+            FALSE = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, Object.class);
+            ARRAY_FALSE = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, Object[].class);
+            NOT = lookup.findStatic(MatcherCompiler.class, "not", MethodType.methodType(boolean.class, boolean.class));
+            IS_NULL = lookup.findStatic(MatcherCompiler.class, "isNull", predicate);
+            IS_NOT_NULL = lookup.findStatic(MatcherCompiler.class, "isNotNull", predicate);
+            SAME = lookup.findStatic(MatcherCompiler.class, "same",
+                MethodType.methodType(boolean.class, Object.class, Object.class));
+            EQUALS = lookup.findVirtual(Object.class, "equals", predicate);
+            IS_INSTANCE = lookup.findVirtual(Class.class, "isInstance", predicate);
+            MATCHES = lookup.findVirtual(IArgumentMatcher.class, "matches", predicate);
+            HAS_LENGTH = lookup.findStatic(MatcherCompiler.class, "hasLength",
+                MethodType.methodType(boolean.class, int.class, Object[].class));
+            ELEMENT = MethodHandles.arrayElementGetter(Object[].class);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private MatcherCompiler() {
+    }
+
+    /**
+     * Compiles the matchers of an expectation.
+     *
+     * @param matchers one matcher per expected argument
+     * @return a method handle of type {@code (Object[])boolean} telling if the arguments match
+     */
+    public static MethodHandle compile(List<IArgumentMatcher> matchers) {
+        // Built from the last argument so that the first one is tested first
+        MethodHandle result = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0,
+            Object[].class);
+        for (int i = matchers.size() - 1; i >= 0; i--) {
+            MethodHandle element = MethodHandles.insertArguments(ELEMENT, 1, i);
+            MethodHandle test = MethodHandles.filterArguments(compile(matchers.get(i)), 0, element);
+            result = MethodHandles.guardWithTest(test, result, ARRAY_FALSE);
+        }
+        return MethodHandles.guardWithTest(MethodHandles.insertArguments(HAS_LENGTH, 0, matchers.size()), result,
+            ARRAY_FALSE);
+    }
+
+    /**
+     * Compiles one matcher.
+     *
+     * @param matcher the matcher
+     * @return a method handle of type {@code (Object)boolean} telling if the argument matches
+     */
+    static MethodHandle compile(IArgumentMatcher matcher) {
+        // Exact classes only, a subclass can match differently
+        Class<?> type = matcher.getClass();
+        if (type == Any.class) {
+            return TRUE;
+        }
+        if (type == Null.class) {
+            return IS_NULL;
+        }
+        if (type == NotNull.class) {
+            return IS_NOT_NULL;
+        }
+        if (type == Equals.class) {
+            Object expected = ((Equals) matcher).getExpected();
+            return expected == null ? IS_NULL : EQUALS.bindTo(expected);
+        }
+        if (type == Same.class) {
+            return MethodHandles.insertArguments(SAME, 0, ((Same) matcher).getExpected());
+        }
+        if (type == InstanceOf.class) {
+            return IS_INSTANCE.bindTo(((InstanceOf) matcher).getClazz());
+        }
+        if (type == Not.class) {
+            return MethodHandles.filterReturnValue(compile(((Not) matcher).getFirst()), NOT);
+        }
+        if (type == And.class) {
+            List<IArgumentMatcher> matchers = ((And) matcher).getMatchers();
+            MethodHandle result = TRUE;
+            for (int i = matchers.size() - 1; i >= 0; i--) {
+                result = MethodHandles.guardWithTest(compile(matchers.get(i)), result, FALSE);
+            }
+            return result;
+        }
+        if (type == Or.class) {
+            List<IArgumentMatcher> matchers = ((Or) matcher).getMatchers();
+            MethodHandle result = FALSE;
+            for (int i = matchers.size() - 1; i >= 0; i--) {
+                result = MethodHandles.guardWithTest(compile(matchers.get(i)), TRUE, result);
+            }
+            return result;
+        }
+        return MATCHES.bindTo(matcher);
+    }
+
+    private static boolean not(boolean value) {
+        return !value;
+    }
+
+    private static boolean isNull(Object actual) {
+        return actual == null;
+    }
+
+    private static boolean isNotNull(Object actual) {
+        return actual != null;
+    }
+
+    private static boolean same(Object expected, Object actual) {
+        return expected == actual;
+    }
+
+    private static boolean hasLength(int length, Object[] arguments) {
+        return arguments.length == length;
+    }
+}
@@ -24,7 +24,7 @@ import org.easymock.IArgumentMatcher;
  *
  * @author OFFIS, Tammo Freese
  */
-public class Not implements IArgumentMatcher, Serializable {
+public class Not implements IntArgumentMatcher, LongArgumentMatcher, DoubleArgumentMatcher, Serializable {
 
     private static final long serialVersionUID = -5160559075998939348L;
 
@@ -34,11 +34,30 @@ public class Not implements IArgumentMatcher, Serializable {
         this.first = first;
     }
 
+    IArgumentMatcher getFirst() {
+        return first;
+    }
+
     @Override
     public boolean matches(Object actual) {
         return !first.matches(actual);
     }
 
+    @Override
+    public boolean matches(int actual) {
+        return !IntArgumentMatcher.matches(first, actual);
+    }
+
+    @Override
+    public boolean matches(long actual) {
+        return !LongArgumentMatcher.matches(first, actual);
+    }
+
+    @Override
+    public boolean matches(double actual) {
+        return !DoubleArgumentMatcher.matches(first, actual);
+    }
+
     @Override
     public void appendTo(StringBuffer buffer) {
         buffer.append("not(");
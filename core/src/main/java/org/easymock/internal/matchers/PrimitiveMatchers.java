@@ -0,0 +1,65 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal.matchers;
+
+import java.util.List;
+
+import org.easymock.IArgumentMatcher;
+
+/**
+ * Tells which matchers can match a primitive argument without boxing it.
+ */
+public final class PrimitiveMatchers {
+
+    // ///CLOVER:OFF
+    private PrimitiveMatchers() {
+    }
+    // ///CLOVER:ON
+
+    /**
+     * Tells if a matcher matches a primitive without boxing it, down to the matchers nested in {@link And},
+     * {@link Or} and {@link Not}. Other matchers, like a capture or a user matcher, need the boxed argument. A capture
+     * also needs the invocation being replayed.
+     *
+     * @param matcher the matcher
+     * @param type {@link IntArgumentMatcher}, {@link LongArgumentMatcher} or {@link DoubleArgumentMatcher}
+     * @return if the matcher and all the matchers nested in it are of this type
+     */
+    public static boolean isPrimitive(IArgumentMatcher matcher, Class<? extends IArgumentMatcher> type) {
+        if (!type.isInstance(matcher)) {
+            return false;
+        }
+        if (matcher instanceof Not) {
+            return isPrimitive(((Not) matcher).getFirst(), type);
+        }
+        if (matcher instanceof And) {
+            return isPrimitive(((And) matcher).getMatchers(), type);
+        }
+        if (matcher instanceof Or) {
+            return isPrimitive(((Or) matcher).getMatchers(), type);
+        }
+        return true;
+    }
+
+    private static boolean isPrimitive(List<IArgumentMatcher> matchers, Class<? extends IArgumentMatcher> type) {
+        for (IArgumentMatcher matcher : matchers) {
+            if (!isPrimitive(matcher, type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -40,6 +40,10 @@ public class Same implements IArgumentMatcher, Serializable {
         return expected == actual;
     }
 
+    public final Object getExpected() {
+        return expected;
+    }
+
     @Override
     public void appendTo(StringBuffer buffer) {
         buffer.append("same(");
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BridgeMethodResolverTest {
+
+    interface Repository<E> {
+        E find(E id);
+    }
+
+    static class StringRepository implements Repository<String> {
+        @Override
+        public String find(String id) {
+            return id;
+        }
+    }
+
+    @Test
+    void findBridgedMethod_notABridge() throws Exception {
+        Method method = StringRepository.class.getDeclaredMethod("find", String.class);
+        assertSame(method, BridgeMethodResolver.findBridgedMethod(method));
+    }
+
+    @Test
+    void findBridgedMethod_resolvedOnce() throws Exception {
+        Method bridge = Arrays.stream(StringRepository.class.getDeclaredMethods())
+            .filter(Method::isBridge)
+            .findFirst()
+            .orElseThrow(AssertionError::new);
+
+        Method bridged = BridgeMethodResolver.findBridgedMethod(bridge);
+        assertEquals(StringRepository.class.getDeclaredMethod("find", String.class), bridged);
+        assertSame(bridged, BridgeMethodResolver.findBridgedMethod(bridge));
+    }
+}
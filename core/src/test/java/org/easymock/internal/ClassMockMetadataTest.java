@@ -0,0 +1,57 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassMockMetadataTest {
+
+    @Test
+    void of_sameInstanceForAClass() {
+        ArrayList<?> mock = EasyMock.mock(ArrayList.class);
+        assertSame(ClassMockMetadata.of(mock.getClass()), ClassMockMetadata.of(mock.getClass()));
+    }
+
+    @Test
+    void getMockingData() {
+        ArrayList<?> mock = EasyMock.mock(ArrayList.class);
+        assertTrue(mock instanceof ClassMock);
+
+        ClassMockingData data = ClassMockMetadata.of(mock.getClass()).getMockingData(mock);
+        assertTrue(data.handler() instanceof ObjectMethodsFilter);
+        assertSame(MocksControl.getControl(mock), ((ObjectMethodsFilter) data.handler()).getDelegate().getControl());
+    }
+
+    @Test
+    void setMockingData() {
+        ArrayList<?> mock = EasyMock.mock(ArrayList.class);
+        ClassMockMetadata metadata = ClassMockMetadata.of(mock.getClass());
+        ClassMockingData data = new ClassMockingData((proxy, method, args) -> null);
+        metadata.setMockingData(mock, data);
+        assertSame(data, metadata.getMockingData(mock));
+    }
+
+    @Test
+    void of_notAMockClass() {
+        RuntimeException e = assertThrows(RuntimeException.class, () -> ClassMockMetadata.of(ArrayList.class));
+        assertTrue(e.getCause() instanceof NoSuchFieldException);
+    }
+}
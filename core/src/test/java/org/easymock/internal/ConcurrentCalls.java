@@ -0,0 +1,68 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Calls a mock from several threads at once, for the tests of the replay modes.
+ */
+final class ConcurrentCalls {
+
+    static final int THREAD_COUNT = 8;
+
+    static final int CALLS_PER_THREAD = 1_000;
+
+    public interface Service {
+        int call(int value);
+    }
+
+    private ConcurrentCalls() {
+    }
+
+    /**
+     * Runs the task in {@link #THREAD_COUNT} threads, all starting together.
+     *
+     * @param task the task to run
+     * @return the result of each thread
+     * @throws Exception if a task failed
+     */
+    static List<Integer> runConcurrently(Callable<Integer> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            CountDownLatch start = new CountDownLatch(THREAD_COUNT);
+            Callable<Integer> together = () -> {
+                start.countDown();
+                start.await();
+                return task.call();
+            };
+            List<Integer> results = new ArrayList<>(THREAD_COUNT);
+            for (Future<Integer> future : executor.invokeAll(Collections.nCopies(THREAD_COUNT, together))) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
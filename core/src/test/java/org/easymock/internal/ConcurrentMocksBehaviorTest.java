@@ -0,0 +1,148 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import org.easymock.Capture;
+import org.easymock.CaptureType;
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.easymock.EasyMock.*;
+import static org.easymock.internal.ConcurrentCalls.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentMocksBehaviorTest {
+
+    private String previous;
+
+    @BeforeEach
+    void setUp() {
+        previous = EasyMock.setEasyMockProperty(EasyMock.CONCURRENT_REPLAY, "true");
+    }
+
+    @AfterEach
+    void tearDown() {
+        EasyMock.setEasyMockProperty(EasyMock.CONCURRENT_REPLAY, previous);
+    }
+
+    @Test
+    void exactCallCount() throws Exception {
+        Service mock = mock(Service.class);
+        expect(mock.call(1)).andReturn(1).times(THREAD_COUNT * CALLS_PER_THREAD - 1);
+        expect(mock.call(1)).andReturn(2);
+        replay(mock);
+
+        int sum = 0;
+        for (int result : runConcurrently(() -> {
+            int threadSum = 0;
+            for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                threadSum += mock.call(1);
+            }
+            return threadSum;
+        })) {
+            sum += result;
+        }
+
+        // Each result was given exactly once
+        assertEquals(THREAD_COUNT * CALLS_PER_THREAD + 1, sum);
+        verify(mock);
+
+        AssertionError e = assertThrows(AssertionError.class, () -> mock.call(1));
+        assertTrue(e.getMessage().contains("Unexpected method call"));
+    }
+
+    @Test
+    void missingCalls() throws Exception {
+        Service mock = mock(Service.class);
+        expect(mock.call(1)).andReturn(1).times(THREAD_COUNT * CALLS_PER_THREAD + 1);
+        replay(mock);
+
+        runConcurrently(() -> {
+            for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                mock.call(1);
+            }
+            return 0;
+        });
+
+        AssertionError e = assertThrows(AssertionError.class, () -> verify(mock));
+        assertTrue(e.getMessage().contains("expected: " + (THREAD_COUNT * CALLS_PER_THREAD + 1) + ", actual: "
+            + THREAD_COUNT * CALLS_PER_THREAD));
+    }
+
+    @Test
+    void stubsAndNiceDefaults() throws Exception {
+        Service mock = niceMock(Service.class);
+        expect(mock.call(1)).andStubReturn(5);
+        replay(mock);
+
+        for (int result : runConcurrently(() -> mock.call(1) + mock.call(2))) {
+            assertEquals(5, result);
+        }
+        verify(mock);
+    }
+
+    @Test
+    void captures() throws Exception {
+        Capture<Integer> capture = Capture.newInstance(CaptureType.ALL);
+        Service mock = mock(Service.class);
+        expect(mock.call(captureInt(capture))).andReturn(0).times(THREAD_COUNT * CALLS_PER_THREAD);
+        replay(mock);
+
+        runConcurrently(() -> {
+            for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                mock.call(i);
+            }
+            return 0;
+        });
+
+        verify(mock);
+        List<Integer> values = capture.getValues();
+        assertEquals(THREAD_COUNT * CALLS_PER_THREAD, values.size());
+        assertEquals((long) THREAD_COUNT * CALLS_PER_THREAD * (CALLS_PER_THREAD - 1) / 2,
+            values.stream().mapToLong(Integer::longValue).sum());
+    }
+
+    @Test
+    void strictMocksKeepTheOrder() throws Exception {
+        Service mock = strictMock(Service.class);
+        for (int i = 0; i < THREAD_COUNT * CALLS_PER_THREAD; i++) {
+            expect(mock.call(0)).andReturn(i);
+        }
+        replay(mock);
+
+        List<Integer> results = new ArrayList<>();
+        for (int result : runConcurrently(() -> {
+            int previousResult = -1;
+            for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                int result = mock.call(0);
+                // each thread sees the results in order
+                assertTrue(result > previousResult);
+                previousResult = result;
+            }
+            return previousResult;
+        })) {
+            results.add(result);
+        }
+
+        assertTrue(results.contains(THREAD_COUNT * CALLS_PER_THREAD - 1));
+        verify(mock);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import org.easymock.IArgumentMatcher;
+import org.easymock.internal.matchers.Any;
+import org.easymock.internal.matchers.Equals;
+import org.easymock.internal.matchers.Same;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpectationIndexTest {
+
+    private final ExpectationIndex<String> index = new ExpectationIndex<>();
+
+    private final Object mock = new Object();
+
+    private final Method equals = ReflectionUtils.OBJECT_EQUALS;
+
+    private void add(IArgumentMatcher matcher, String entry) {
+        index.add(new ExpectedInvocation(new Invocation(mock, equals, new Object[] { null }),
+                Collections.singletonList(matcher)), entry);
+    }
+
+    private Object get(Object argument) {
+        return index.get(new Invocation(mock, equals, new Object[] { argument }));
+    }
+
+    @Test
+    void get_nothingIndexed() {
+        assertEquals(Collections.emptyList(), get(1));
+    }
+
+    @Test
+    void get_onlyTheEntriesExpectingTheValue() {
+        add(new Equals(1), "a");
+        add(new Equals(2), "b");
+        add(new Equals(1), "c");
+        add(new Equals(null), "d");
+
+        assertEquals(Arrays.asList("a", "c"), get(1));
+        assertEquals(Arrays.asList("b"), get(2));
+        assertEquals(Arrays.asList("d"), get(null));
+        assertEquals(Collections.emptyList(), get(3));
+    }
+
+    @Test
+    void get_keepsRegistrationOrderAcrossMatchers() {
+        add(Any.ANY, "a");
+        add(new Equals(1), "b");
+        add(new Equals(2), "c");
+        add(Any.ANY, "d");
+        add(new Equals(1), "e");
+
+        assertEquals(Arrays.asList("a", "b", "d", "e"), get(1));
+        assertEquals(Arrays.asList("a", "c", "d"), get(2));
+        assertEquals(Arrays.asList("a", "d"), get(3));
+    }
+
+    @Test
+    void get_sameHashedByIdentity() {
+        String value = "value";
+        add(new Same(value), "a");
+        add(new Same("other"), "b");
+
+        assertEquals(Arrays.asList("a"), get(value));
+    }
+
+    @Test
+    void get_unhashableArgumentCanNotBeEqual() {
+        add(new Equals(1), "a");
+        add(new Equals(2), "b");
+
+        assertEquals(Collections.emptyList(), get(new Object()));
+    }
+
+    @Test
+    void get_unhashableExpectedValueMatchesAnything() {
+        Object expected = new Object();
+        add(new Equals(expected), "a");
+        add(new Equals(1), "b");
+        add(new Equals(3), "c");
+
+        assertEquals(Arrays.asList("a"), get(2));
+        assertEquals(Arrays.asList("a", "b"), get(1));
+    }
+
+    @Test
+    void get_otherMock() {
+        add(new Equals(1), "a");
+
+        assertEquals(Collections.emptyList(),
+                index.get(new Invocation(new Object(), equals, new Object[] { 1 })));
+    }
+}
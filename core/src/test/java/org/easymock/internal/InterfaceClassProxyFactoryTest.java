@@ -0,0 +1,225 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import org.easymock.Capture;
+import org.easymock.EasyMock;
+import org.easymock.EasyMockSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.lang.reflect.Proxy;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.easymock.EasyMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InterfaceClassProxyFactoryTest {
+
+    public interface Service {
+        String call(String arg);
+
+        default int answer() {
+            return 42;
+        }
+    }
+
+    public interface SerializableService extends Serializable {
+        String call(String arg);
+    }
+
+    public interface Prices {
+        long price(int id);
+
+        int count(long since);
+
+        double rate(double amount);
+
+        void tick(int id);
+    }
+
+    private String previous;
+
+    @BeforeEach
+    void setUp() {
+        previous = EasyMock.setEasyMockProperty(EasyMock.BYTE_BUDDY_INTERFACE_MOCKING, "true");
+    }
+
+    @AfterEach
+    void tearDown() {
+        EasyMock.setEasyMockProperty(EasyMock.BYTE_BUDDY_INTERFACE_MOCKING, previous);
+    }
+
+    @Test
+    void createMock_isNotAJdkProxy() {
+        Service mock = mock(Service.class);
+        assertFalse(Proxy.isProxyClass(mock.getClass()));
+        assertTrue(mock instanceof ClassMock);
+        assertSame(Service.class, EasyMockSupport.getMockedClass(mock));
+        assertNotNull(MocksControl.getControl(mock));
+    }
+
+    @Test
+    void createMock_isAJdkProxyWhenDisabled() {
+        EasyMock.setEasyMockProperty(EasyMock.BYTE_BUDDY_INTERFACE_MOCKING, null);
+        Service mock = mock(Service.class);
+        assertTrue(Proxy.isProxyClass(mock.getClass()));
+    }
+
+    @Test
+    void mockClassIsReused() {
+        assertSame(mock(Service.class).getClass(), mock(Service.class).getClass());
+    }
+
+    @Test
+    void recordReplayVerify() {
+        Service mock = strictMock(Service.class);
+        expect(mock.call("a")).andReturn("b");
+        expect(mock.answer()).andReturn(1);
+        replay(mock);
+        assertEquals("b", mock.call("a"));
+        assertEquals(1, mock.answer());
+        verify(mock);
+    }
+
+    @Test
+    void unexpectedCall() {
+        Service mock = mock(Service.class);
+        replay(mock);
+        AssertionError e = assertThrows(AssertionError.class, () -> mock.call("a"));
+        assertEquals("\n  Unexpected method call EasyMock for " + Service.class + " -> Service.call(\"a\")",
+            e.getMessage());
+    }
+
+    @Test
+    void objectMethods() {
+        Service mock = mock("service", Service.class);
+        Service other = mock(Service.class);
+        replay(mock, other);
+        assertEquals(mock, mock);
+        assertNotEquals(mock, other);
+        assertEquals(System.identityHashCode(mock), mock.hashCode());
+        assertEquals("service", mock.toString());
+        assertEquals("EasyMock for " + Service.class, other.toString());
+        verify(mock, other);
+    }
+
+    @Test
+    void objectMethodsRedeclaredByTheInterface() {
+        @SuppressWarnings("unchecked")
+        Comparator<String> mock = mock(Comparator.class);
+        replay(mock);
+        assertTrue(mock.equals(mock));
+        verify(mock);
+    }
+
+    @Test
+    void jdkInterface() {
+        @SuppressWarnings("unchecked")
+        List<String> mock = mock(List.class);
+        expect(mock.get(0)).andReturn("a");
+        replay(mock);
+        assertEquals("a", mock.get(0));
+        verify(mock);
+        assertSame(List.class, EasyMockSupport.getMockedClass(mock));
+    }
+
+    @Test
+    void serializableInterface() {
+        SerializableService mock = mock(SerializableService.class);
+        expect(mock.call("a")).andReturn("b");
+        replay(mock);
+        assertEquals("b", mock.call("a"));
+        verify(mock);
+    }
+
+    @Test
+    void primitiveArgumentsOnFrozenMock() {
+        Prices mock = mock(Prices.class);
+        expect(mock.price(eq(1000))).andStubReturn(1L);
+        expect(mock.price(and(geq(2000), lt(3000)))).andStubReturn(2L);
+        expect(mock.price(not(leq(5000)))).andStubReturn(3L);
+        expect(mock.count(or(eq(1L), gt(100L)))).andStubReturn(4);
+        expect(mock.rate(geq(1.5))).andStubReturn(5.0);
+        expect(mock.rate(eq(-0.0))).andStubReturn(6.0);
+        mock.tick(anyInt());
+        expectLastCall().asStub();
+        freeze(mock);
+
+        assertEquals(1L, mock.price(1000));
+        assertEquals(2L, mock.price(2500));
+        assertEquals(3L, mock.price(100_000));
+        assertEquals(4, mock.count(1L));
+        assertEquals(4, mock.count(101L));
+        assertEquals(5.0, mock.rate(2.0));
+        assertEquals(6.0, mock.rate(-0.0));
+        mock.tick(1);
+
+        AssertionError e = assertThrows(AssertionError.class, () -> mock.price(1500));
+        assertTrue(e.getMessage().endsWith("Prices.price(1500 (int))"), e.getMessage());
+        assertThrows(AssertionError.class, () -> mock.rate(0.0));
+        e = assertThrows(AssertionError.class, () -> verify(mock));
+        assertTrue(e.getMessage().contains("Prices.price(1500 (int))"), e.getMessage());
+    }
+
+    @Test
+    void primitiveArgumentsOnFrozenNiceMock() {
+        Prices mock = niceMock(Prices.class);
+        expect(mock.price(eq(1000))).andStubReturn(1L);
+        freeze(mock);
+
+        assertEquals(1L, mock.price(1000));
+        assertEquals(0L, mock.price(1001));
+        assertEquals(0, mock.count(1L));
+        verify(mock);
+    }
+
+    @Test
+    void primitiveArgumentsNeedingBoxing() {
+        Prices mock = mock(Prices.class);
+        expect(mock.price(eq(1000))).andStubReturn(1L);
+        expect(mock.price(anyInt())).andStubAnswer(() -> (long) (int) getCurrentArgument(0));
+        Capture<Integer> captured = newCapture();
+        expect(mock.count(1L)).andStubThrow(new IllegalArgumentException());
+        mock.tick(captureInt(captured));
+        expectLastCall().asStub();
+        freeze(mock);
+
+        assertEquals(1L, mock.price(1000));
+        assertEquals(2000L, mock.price(2000));
+        assertThrows(IllegalArgumentException.class, () -> mock.count(1L));
+        mock.tick(3);
+        assertEquals(3, captured.getValue());
+    }
+
+    @Test
+    void nestedCaptureOnFrozenMock() {
+        Prices mock = mock(Prices.class);
+        Capture<Integer> captured = newCapture();
+        Capture<Long> capturedInOr = newCapture();
+        expect(mock.price(and(captureInt(captured), gt(5)))).andStubReturn(1L);
+        expect(mock.count(or(eq(1L), and(gt(10L), captureLong(capturedInOr))))).andStubReturn(2);
+        freeze(mock);
+
+        assertEquals(1L, mock.price(6));
+        assertEquals(6, captured.getValue());
+        assertEquals(2, mock.count(20L));
+        assertEquals(20L, capturedInOr.getValue());
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import org.easymock.Capture;
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.easymock.EasyMock.*;
+import static org.easymock.internal.ConcurrentCalls.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalMocksBehaviorTest {
+
+    public interface Script {
+        void ping();
+
+        void put(String value);
+
+        int get();
+    }
+
+    private String previous;
+
+    private String previousCapacity;
+
+    @BeforeEach
+    void setUp() {
+        previous = EasyMock.setEasyMockProperty(EasyMock.JOURNAL_REPLAY, "true");
+        previousCapacity = EasyMock.setEasyMockProperty(EasyMock.JOURNAL_CAPACITY, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        EasyMock.setEasyMockProperty(EasyMock.JOURNAL_CAPACITY, previousCapacity);
+        EasyMock.setEasyMockProperty(EasyMock.JOURNAL_REPLAY, previous);
+    }
+
+    @Test
+    void callsCheckedOnVerify() throws Exception {
+        Service mock = mock(Service.class);
+        expect(mock.call(1)).andReturn(1).times(THREAD_COUNT * CALLS_PER_THREAD);
+        replay(mock);
+
+        for (int result : runConcurrently(() -> {
+            int sum = 0;
+            for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                sum += mock.call(1);
+            }
+            return sum;
+        })) {
+            assertEquals(CALLS_PER_THREAD, result);
+        }
+        verify(mock);
+    }
+
+    @Test
+    void missingCallsReportedOnVerify() throws Exception {
+        Service mock = mock(Service.class);
+        expect(mock.call(1)).andReturn(1).times(THREAD_COUNT + 1);
+        replay(mock);
+
+        runConcurrently(() -> mock.call(1));
+
+        AssertionError e = assertThrows(AssertionError.class, () -> verify(mock));
+        assertTrue(e.getMessage().startsWith("\n  Expectation failure on verify:"));
+        assertTrue(e.getMessage().endsWith("Service.call(1 (int)): expected: 9, actual: 8"));
+    }
+
+    @Test
+    void tooManyCallsReportedOnVerify() {
+        Service mock = mock(Service.class);
+        expect(mock.call(1)).andReturn(1);
+        replay(mock);
+
+        // Answered by the expectation even if used up
+        assertEquals(1, mock.call(1));
+        assertEquals(1, mock.call(1));
+
+        AssertionError e = assertThrows(AssertionError.class, () -> verify(mock));
+        assertTrue(e.getMessage().startsWith("\n  Unexpected method calls:"));
+        assertTrue(e.getMessage().endsWith("Service.call(1 (int))"));
+    }
+
+    @Test
+    void unexpectedCallsReportedOnVerify() {
+        Service mock = mock(Service.class);
+        expect(mock.call(1)).andStubReturn(1);
+        replay(mock);
+
+        assertEquals(0, mock.call(2));
+        assertEquals(1, mock.call(1));
+
+        AssertionError e = assertThrows(AssertionError.class, () -> verify(mock));
+        assertTrue(e.getMessage().contains("\n  Unexpected method calls:"));
+        assertTrue(e.getMessage().contains("Service.call(2 (int))"));
+    }
+
+    @Test
+    void orderCheckedOnVerify() {
+        Service mock = strictMock(Service.class);
+        expect(mock.call(1)).andReturn(1);
+        expect(mock.call(2)).andReturn(2);
+        replay(mock);
+
+        assertEquals(2, mock.call(2));
+        assertEquals(1, mock.call(1));
+
+        AssertionError e = assertThrows(AssertionError.class, () -> verify(mock));
+        assertTrue(e.getMessage().contains("\n  Unexpected method calls:"));
+        assertTrue(e.getMessage().contains("Service.call(2 (int))"));
+    }
+
+    @Test
+    void capturedOnVerify() {
+        Capture<Integer> captured = newCapture();
+        Service mock = mock(Service.class);
+        expect(mock.call(captureInt(captured))).andReturn(1);
+        replay(mock);
+
+        assertEquals(1, mock.call(3));
+        assertFalse(captured.hasCaptured());
+
+        verify(mock);
+        assertEquals(3, captured.getValue().intValue());
+    }
+
+    @Test
+    void stubsAndNiceDefaults() throws Exception {
+        Service mock = niceMock(Service.class);
+        expect(mock.call(1)).andStubReturn(5);
+        replay(mock);
+
+        for (int result : runConcurrently(() -> mock.call(1) + mock.call(2))) {
+            assertEquals(5, result);
+        }
+        verify(mock);
+    }
+
+    @Test
+    void journalFull() {
+        EasyMock.setEasyMockProperty(EasyMock.JOURNAL_CAPACITY, "2");
+        Service mock = mock(Service.class);
+        expect(mock.call(1)).andReturn(1).times(3);
+        replay(mock);
+
+        mock.call(1);
+        mock.call(1);
+        mock.call(1);
+
+        AssertionError e = assertThrows(AssertionError.class, () -> verify(mock));
+        assertEquals("\n  Journal full: 1 calls were not kept and can't be verified. Increase easymock.journalCapacity",
+                e.getMessage());
+    }
+
+    @Test
+    void onlyOneResultPerExpectation() {
+        Service mock = mock(Service.class);
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> {
+            expect(mock.call(1)).andReturn(1).andThrow(new RuntimeException());
+            replay(mock);
+        });
+        assertTrue(e.getMessage().startsWith("only one result can be recorded for "));
+        assertTrue(e.getMessage().endsWith(" with easymock.journalReplay, use times() to expect more calls"));
+    }
+
+    @Test
+    void sameResultRecordedAgain() {
+        Script mock = mock(Script.class);
+        mock.ping();
+        mock.ping();
+        expect(mock.get()).andReturn(1);
+        expect(mock.get()).andReturn(1);
+        replay(mock);
+
+        mock.ping();
+        mock.ping();
+        assertEquals(1, mock.get());
+        assertEquals(1, mock.get());
+        verify(mock);
+    }
+
+    @Test
+    void sameResultRecordedAgainInStrictScript() {
+        Script mock = strictMock(Script.class);
+        mock.put("a");
+        mock.ping();
+        mock.put("a");
+        replay(mock);
+
+        mock.put("a");
+        mock.ping();
+        mock.put("a");
+        verify(mock);
+    }
+
+    @Test
+    void differentValueRecordedAgain() {
+        Script mock = mock(Script.class);
+        expect(mock.get()).andReturn(1);
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> {
+            expect(mock.get()).andReturn(2);
+            replay(mock);
+        });
+        assertTrue(e.getMessage().startsWith("only one result can be recorded for "));
+    }
+
+    @Test
+    void invalidCapacity() {
+        EasyMock.setEasyMockProperty(EasyMock.JOURNAL_CAPACITY, "lots");
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> mock(Service.class));
+        assertEquals("easymock.journalCapacity must be a positive integer: lots", e.getMessage());
+
+        EasyMock.setEasyMockProperty(EasyMock.JOURNAL_CAPACITY, "0");
+        e = assertThrows(IllegalArgumentException.class, () -> mock(Service.class));
+        assertEquals("easymock.journalCapacity must be a positive integer: 0", e.getMessage());
+    }
+
+    @Test
+    void notCombinedWithOtherReplays() {
+        String previousConcurrent = EasyMock.setEasyMockProperty(EasyMock.CONCURRENT_REPLAY, "true");
+        try {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> mock(Service.class));
+            assertEquals("easymock.concurrentReplay, easymock.perThreadReplay and easymock.journalReplay can't be "
+                    + "combined, only one of them can be true", e.getMessage());
+        } finally {
+            EasyMock.setEasyMockProperty(EasyMock.CONCURRENT_REPLAY, previousConcurrent);
+        }
+    }
+
+    @Test
+    void resetStartsOver() {
+        Service mock = mock(Service.class);
+        expect(mock.call(1)).andReturn(1);
+        replay(mock);
+        mock.call(1);
+
+        reset(mock);
+        expect(mock.call(1)).andReturn(2);
+        replay(mock);
+        assertEquals(2, mock.call(1));
+        verify(mock);
+    }
+}
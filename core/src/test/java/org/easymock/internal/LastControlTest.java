@@ -0,0 +1,115 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import org.easymock.IArgumentMatcher;
+import org.easymock.MockType;
+import org.easymock.internal.matchers.Any;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LastControlTest {
+
+    @Test
+    void currentInvocation_nested() throws Exception {
+        Invocation outer = new Invocation(this, Object.class.getMethod("toString"), null);
+        Invocation inner = new Invocation(this, Object.class.getMethod("hashCode"), null);
+
+        Invocation previous = LastControl.pushCurrentInvocation(outer);
+        assertSame(outer, LastControl.getCurrentInvocation());
+        Invocation previousOfInner = LastControl.pushCurrentInvocation(inner);
+        assertSame(outer, previousOfInner);
+        assertSame(inner, LastControl.getCurrentInvocation());
+        LastControl.popCurrentInvocation(previousOfInner);
+        assertSame(outer, LastControl.getCurrentInvocation());
+        LastControl.popCurrentInvocation(previous);
+        assertSame(previous, LastControl.getCurrentInvocation());
+    }
+
+    @Test
+    void pullMatchers_handsTheMatchersOver() {
+        assertNull(LastControl.pullMatchers());
+
+        LastControl.reportMatcher(Any.ANY);
+        LastControl.reportMatcher(Any.ANY);
+        List<IArgumentMatcher> matchers = LastControl.pullMatchers();
+        assertEquals(2, matchers.size());
+        assertNull(LastControl.pullMatchers());
+
+        LastControl.reportMatcher(Any.ANY);
+        assertEquals(1, LastControl.pullMatchers().size());
+        // What was pulled before isn't touched
+        assertEquals(2, matchers.size());
+    }
+
+    @Test
+    void lastControl() {
+        MocksControl control = new MocksControl(MockType.DEFAULT);
+        LastControl.reportLastControl(control);
+        assertSame(control, LastControl.lastControl());
+        LastControl.reportLastControl(null);
+        assertNull(LastControl.lastControl());
+    }
+
+    @Test
+    void slotsClearedWhenEmpty() throws Exception {
+        Field field = LastControl.class.getDeclaredField("threadToSlots");
+        field.setAccessible(true);
+        ThreadLocal<?> threadToSlots = (ThreadLocal<?>) field.get(null);
+        Invocation invocation = new Invocation(this, Object.class.getMethod("toString"), null);
+        MocksControl control = new MocksControl(MockType.DEFAULT);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        // A new thread to start without any slots
+        Thread thread = new Thread(() -> {
+            try {
+                // Reading doesn't create them
+                assertNull(LastControl.lastControl());
+                assertNull(LastControl.getCurrentInvocation());
+                assertNull(LastControl.pullMatchers());
+                assertNull(threadToSlots.get());
+
+                Invocation previous = LastControl.pushCurrentInvocation(invocation);
+                Object slots = threadToSlots.get();
+                // Only a JDK class is kept by the thread
+                assertSame(Object[].class, slots.getClass());
+                LastControl.popCurrentInvocation(previous);
+                // Kept for the next call, but cleared
+                assertSame(slots, threadToSlots.get());
+                assertArrayEquals(new Object[3], (Object[]) slots);
+
+                LastControl.reportLastControl(control);
+                LastControl.reportMatcher(Any.ANY);
+                LastControl.reportLastControl(null);
+                LastControl.pullMatchers();
+                assertSame(slots, threadToSlots.get());
+                assertArrayEquals(new Object[3], (Object[]) slots);
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        thread.start();
+        thread.join();
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+    }
+}
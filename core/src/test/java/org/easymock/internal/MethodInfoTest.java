@@ -0,0 +1,91 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import org.easymock.tests.IMethods;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MethodInfoTest {
+
+    @Test
+    void of_returnsTheSameInfo() throws Exception {
+        Method method = IMethods.class.getMethod("oneArg", String.class);
+        assertSame(MethodInfo.of(method), MethodInfo.of(method));
+        assertSame(MethodInfo.of(method), MethodInfo.of(IMethods.class.getMethod("oneArg", String.class)));
+    }
+
+    @Test
+    void varargs() throws Exception {
+        MethodInfo info = MethodInfo.of(IMethods.class.getMethod("varargsString", int.class, String[].class));
+
+        assertTrue(info.isVarArgs());
+        assertSame(String.class, info.getVarArgsComponentType());
+        assertEquals(2, info.getParameterCount());
+        assertTrue(info.isPrimitiveParameter(0));
+        assertFalse(info.isPrimitiveParameter(1));
+        // expanded varargs
+        assertFalse(info.isPrimitiveParameter(3));
+    }
+
+    @Test
+    void notVarargs() throws Exception {
+        MethodInfo info = MethodInfo.of(IMethods.class.getMethod("oneArg", int.class));
+
+        assertFalse(info.isVarArgs());
+        assertNull(info.getVarArgsComponentType());
+        assertTrue(info.isPrimitiveParameter(0));
+    }
+
+    @Test
+    void emptyReturnValue() throws Exception {
+        MethodInfo info = MethodInfo.of(IMethods.class.getMethod("intReturningMethod", int.class));
+        assertEquals(0, info.getEmptyReturnValue());
+        assertFalse(info.isVoid());
+        assertSame(info.getEmptyReturnResult(), Result.createEmptyReturnResult(int.class));
+
+        info = MethodInfo.of(IMethods.class.getMethod("oneArg", String.class));
+        assertNull(info.getEmptyReturnValue());
+
+        info = MethodInfo.of(IMethods.class.getMethod("simpleMethod"));
+        assertTrue(info.isVoid());
+        assertNull(info.getEmptyReturnValue());
+    }
+
+    @Test
+    void exceptionTypes() throws Exception {
+        MethodInfo info = MethodInfo.of(IMethods.class.getMethod("throwsIOException", int.class));
+        assertArrayEquals(new Class<?>[] { IOException.class }, info.getExceptionTypes());
+        assertSame(String.class, info.getReturnType());
+    }
+
+    @Test
+    void spreadInvoker() throws Throwable {
+        MethodInfo info = MethodInfo.of(List.class.getMethod("get", int.class));
+        assertSame(info.getSpreadInvoker(), info.getSpreadInvoker());
+        assertEquals("b", info.getSpreadInvoker().invokeWithArguments(Arrays.asList("a", "b"), new Object[] { 1 }));
+
+        info = MethodInfo.of(List.class.getMethod("clear"));
+        assertNull(info.getSpreadInvoker().invokeWithArguments(new ArrayList<>(), new Object[0]));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MockClassCacheTest {
+
+    public static class Mocked {
+        public String hello() {
+            return "hello";
+        }
+    }
+
+    private final InvocationHandler handler = (proxy, method, args) -> "mocked";
+
+    @TempDir
+    Path directory;
+
+    private String previous;
+
+    @BeforeEach
+    void setUp() {
+        previous = EasyMock.setEasyMockProperty(EasyMock.MOCK_CLASS_CACHE_DIRECTORY, directory.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        EasyMock.setEasyMockProperty(EasyMock.MOCK_CLASS_CACHE_DIRECTORY, previous);
+    }
+
+    @Test
+    void getInstance_disabled() {
+        EasyMock.setEasyMockProperty(EasyMock.MOCK_CLASS_CACHE_DIRECTORY, null);
+        assertNull(MockClassCache.getInstance());
+    }
+
+    @Test
+    void key_dependsOnMockedMethods() throws Exception {
+        MockClassCache cache = MockClassCache.getInstance();
+        Method hello = Mocked.class.getMethod("hello");
+        Method toString = Mocked.class.getMethod("toString");
+
+        String all = cache.key(Mocked.class, null, "a.");
+        assertEquals(all, cache.key(Mocked.class, null, "a."));
+        assertNotEquals(all, cache.key(Mocked.class, null, "b."));
+        assertNotEquals(all, cache.key(Mocked.class, new Method[] { hello }, "a."));
+        assertEquals(cache.key(Mocked.class, new Method[] { hello, toString }, "a."),
+            cache.key(Mocked.class, new Method[] { toString, hello }, "a."));
+    }
+
+    @Test
+    void mockClassIsWritten() throws Exception {
+        Object mock = createMock(isolatedClass());
+        assertTrue(Files.isRegularFile(directory.resolve(mock.getClass().getName() + ".class")));
+    }
+
+    @Test
+    void mockClassIsReadInAnotherClassLoader() throws Exception {
+        Object first = createMock(isolatedClass());
+        Object second = createMock(isolatedClass());
+
+        assertNotSame(first.getClass(), second.getClass());
+        assertEquals(first.getClass().getName(), second.getClass().getName());
+        assertEquals("mocked", second.getClass().getMethod("hello").invoke(second));
+        assertEquals(1, cachedFileCount());
+    }
+
+    @Test
+    void corruptedEntryIsGeneratedAgain() throws Exception {
+        Object first = createMock(isolatedClass());
+        Path file = directory.resolve(first.getClass().getName() + ".class");
+        Files.write(file, new byte[] { 1, 2, 3 });
+
+        Object second = createMock(isolatedClass());
+
+        assertEquals("mocked", second.getClass().getMethod("hello").invoke(second));
+        assertTrue(Files.size(file) > 3);
+    }
+
+    private Object createMock(Class<?> toMock) {
+        return new ClassProxyFactory().createProxy(toMock, handler, null, null);
+    }
+
+    private long cachedFileCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    /**
+     * Load {@link Mocked} in a new class loader to get a class never mocked before. This test class is loaded again as
+     * well since {@link Mocked} needs to access it.
+     */
+    private static Class<?> isolatedClass() throws Exception {
+        ClassLoader loader = new ClassLoader(MockClassCacheTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String className, boolean resolve) throws ClassNotFoundException {
+                if (!className.startsWith(MockClassCacheTest.class.getName())) {
+                    return super.loadClass(className, resolve);
+                }
+                synchronized (getClassLoadingLock(className)) {
+                    Class<?> c = findLoadedClass(className);
+                    if (c == null) {
+                        byte[] bytes = bytecode(className);
+                        c = defineClass(className, bytes, 0, bytes.length);
+                    }
+                    return c;
+                }
+            }
+        };
+        return loader.loadClass(Mocked.class.getName());
+    }
+
+    private static byte[] bytecode(String className) throws ClassNotFoundException {
+        try (InputStream in = MockClassCacheTest.class.getResourceAsStream("/" + className.replace('.', '/') + ".class")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new ClassNotFoundException(className, e);
+        }
+    }
+}
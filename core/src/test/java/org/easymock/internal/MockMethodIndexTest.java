@@ -0,0 +1,66 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MockMethodIndexTest {
+
+    private final MockMethodIndex<String> index = new MockMethodIndex<>();
+
+    private final Method toString = ReflectionUtils.OBJECT_TOSTRING;
+    private final Method hashCode = ReflectionUtils.OBJECT_HASHCODE;
+
+    @Test
+    void get_nothingIndexed() {
+        assertTrue(index.get(new Object(), toString).isEmpty());
+    }
+
+    @Test
+    void get_keepsRegistrationOrder() {
+        Object mock = new Object();
+        index.add(mock, toString, "a");
+        index.add(mock, hashCode, "b");
+        index.add(mock, toString, "c");
+
+        assertEquals(Arrays.asList("a", "c"), index.get(mock, toString));
+        assertEquals(Arrays.asList("b"), index.get(mock, hashCode));
+    }
+
+    @Test
+    void get_mocksComparedByIdentity() {
+        Object mock1 = "mock";
+        Object mock2 = new String("mock");
+        index.add(mock1, toString, "a");
+        index.add(mock2, toString, "b");
+
+        assertEquals(Arrays.asList("a"), index.get(mock1, toString));
+        assertEquals(Arrays.asList("b"), index.get(mock2, toString));
+    }
+
+    @Test
+    void clear() {
+        Object mock = new Object();
+        index.add(mock, toString, "a");
+        index.clear();
+        assertTrue(index.get(mock, toString).isEmpty());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.easymock.EasyMock.*;
+import static org.easymock.internal.ConcurrentCalls.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionedMocksBehaviorTest {
+
+    private String previous;
+
+    @BeforeEach
+    void setUp() {
+        previous = EasyMock.setEasyMockProperty(EasyMock.PER_THREAD_REPLAY, "true");
+    }
+
+    @AfterEach
+    void tearDown() {
+        EasyMock.setEasyMockProperty(EasyMock.PER_THREAD_REPLAY, previous);
+    }
+
+    @Test
+    void eachThreadReplaysTheScript() throws Exception {
+        Service mock = strictMock(Service.class);
+        for (int i = 0; i < CALLS_PER_THREAD; i++) {
+            expect(mock.call(i)).andReturn(i);
+        }
+        replay(mock);
+
+        for (int result : runConcurrently(() -> {
+            int sum = 0;
+            for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                sum += mock.call(i);
+            }
+            return sum;
+        })) {
+            assertEquals(CALLS_PER_THREAD * (CALLS_PER_THREAD - 1) / 2, result);
+        }
+        verify(mock);
+    }
+
+    @Test
+    void callCountsArePerThread() throws Exception {
+        Service mock = mock(Service.class);
+        expect(mock.call(1)).andReturn(1);
+        replay(mock);
+
+        runConcurrently(() -> mock.call(1));
+        verify(mock);
+
+        // This thread has its own call count too
+        assertEquals(1, mock.call(1));
+        AssertionError e = assertThrows(AssertionError.class, () -> mock.call(1));
+        assertTrue(e.getMessage().startsWith("\n  Unexpected method call "));
+    }
+
+    @Test
+    void verifyReportsEachFailingThread() throws Exception {
+        Service mock = mock(Service.class);
+        expect(mock.call(1)).andReturn(1).times(2);
+        replay(mock);
+
+        runConcurrently(() -> mock.call(1));
+        Thread thread = new Thread(() -> {
+            mock.call(1);
+            mock.call(1);
+        }, "complete");
+        thread.start();
+        thread.join();
+
+        AssertionError e = assertThrows(AssertionError.class, () -> verify(mock));
+        String message = e.getMessage();
+        int failures = message.split("In thread ", -1).length - 1;
+        assertEquals(THREAD_COUNT, failures);
+        assertFalse(message.contains("In thread complete:"));
+        assertTrue(message.contains("Service.call(1 (int)): expected: 2, actual: 1"));
+    }
+
+    @Test
+    void verifyWithoutAnyCall() {
+        Service mock = mock(Service.class);
+        expect(mock.call(1)).andReturn(1);
+        replay(mock);
+
+        AssertionError e = assertThrows(AssertionError.class, () -> verify(mock));
+        assertTrue(e.getMessage().startsWith("\n  Expectation failure on verify:"));
+        assertTrue(e.getMessage().endsWith("Service.call(1 (int)): expected: 1, actual: 0"));
+    }
+
+    @Test
+    void unexpectedCallsReportedOnVerify() throws Exception {
+        Service mock = mock(Service.class);
+        expect(mock.call(1)).andStubReturn(1);
+        replay(mock);
+
+        Thread caller = new Thread(() -> assertThrows(AssertionError.class, () -> mock.call(2)), "caller");
+        caller.start();
+        caller.join();
+        Thread other = new Thread(() -> mock.call(1), "other");
+        other.start();
+        other.join();
+
+        AssertionError e = assertThrows(AssertionError.class, () -> verify(mock));
+        assertTrue(e.getMessage().startsWith("\n  In thread caller:\n  Unexpected method calls:"));
+        assertTrue(e.getMessage().endsWith("Service.call(2 (int))"));
+    }
+
+    @Test
+    void singleThreadReportedAsUsual() {
+        Service mock = mock(Service.class);
+        expect(mock.call(1)).andReturn(1).times(2);
+        replay(mock);
+        mock.call(1);
+
+        AssertionError e = assertThrows(AssertionError.class, () -> verify(mock));
+        assertTrue(e.getMessage().startsWith("\n  Expectation failure on verify:"));
+    }
+
+    @Test
+    void stubsAndNiceDefaults() throws Exception {
+        Service mock = niceMock(Service.class);
+        expect(mock.call(1)).andStubReturn(5);
+        replay(mock);
+
+        for (int result : runConcurrently(() -> mock.call(1) + mock.call(2))) {
+            assertEquals(5, result);
+        }
+        verify(mock);
+    }
+
+    @Test
+    void resetStartsOver() throws Exception {
+        Service mock = mock(Service.class);
+        expect(mock.call(1)).andReturn(1);
+        replay(mock);
+        mock.call(1);
+
+        reset(mock);
+        expect(mock.call(1)).andReturn(2);
+        replay(mock);
+        assertEquals(2, mock.call(1));
+        verify(mock);
+    }
+}
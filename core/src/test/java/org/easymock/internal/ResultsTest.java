@@ -0,0 +1,97 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultsTest {
+
+    private final Result first = Result.createReturnResult("first");
+    private final Result second = Result.createReturnResult("second");
+    private final Result third = Result.createReturnResult("third");
+
+    private final Results results = new Results();
+
+    @Test
+    void next_walksThroughTheRanges() {
+        results.add(first, new Range(2));
+        results.add(second, new Range(1));
+        results.add(third, new Range(1, 2));
+
+        assertSame(first, results.next());
+        assertSame(first, results.next());
+        assertSame(second, results.next());
+        assertFalse(results.hasValidCallCount());
+        assertSame(third, results.next());
+        assertTrue(results.hasValidCallCount());
+        assertTrue(results.hasResults());
+        assertSame(third, results.next());
+        assertTrue(results.hasValidCallCount());
+        assertFalse(results.hasResults());
+        assertNull(results.next());
+        assertEquals(5, results.getCallCount());
+    }
+
+    @Test
+    void next_openCount() {
+        results.add(first, new Range(1));
+        results.add(second, MocksControl.AT_LEAST_ONCE);
+
+        assertSame(first, results.next());
+        for (int i = 0; i < 100; i++) {
+            assertSame(second, results.next());
+        }
+        assertTrue(results.hasResults());
+        assertTrue(results.hasValidCallCount());
+    }
+
+    @Test
+    void hugeRangesDoNotOverflow() {
+        results.add(first, new Range(Integer.MAX_VALUE - 1));
+        results.add(second, new Range(Integer.MAX_VALUE - 1));
+
+        assertTrue(results.hasResults());
+        assertSame(first, results.next());
+        assertFalse(results.hasValidCallCount());
+    }
+
+    @Test
+    void toString_mainInterval() {
+        results.add(first, new Range(2));
+        results.add(second, new Range(1));
+        assertEquals("expected: 3", results.toString());
+
+        results.add(third, new Range(1, 3));
+        assertEquals("expected: between 4 and 6", results.toString());
+    }
+
+    @Test
+    void claim_givesEachCallItsResult() {
+        results.add(first, new Range(2));
+        results.add(second, new Range(1));
+
+        assertEquals(0, results.claim());
+        assertEquals(1, results.claim());
+        assertEquals(2, results.claim());
+        assertEquals(-1, results.claim());
+        assertSame(first, results.get(1));
+        assertSame(second, results.get(2));
+        assertTrue(results.hasValidCallCount(3));
+        assertFalse(results.hasValidCallCount(4));
+    }
+}
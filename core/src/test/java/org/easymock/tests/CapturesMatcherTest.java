@@ -40,15 +40,17 @@ class CapturesMatcherTest {
 
     private StringBuffer buffer;
 
+    private Invocation previous;
+
     @BeforeEach
     void setUp() throws Exception {
-        LastControl.pushCurrentInvocation(new Invocation(this, getClass().getMethod("test"), new Object[0]));
+        previous = LastControl.pushCurrentInvocation(new Invocation(this, getClass().getMethod("test"), new Object[0]));
         buffer = new StringBuffer();
     }
 
     @AfterEach
     void tearDown() {
-        LastControl.popCurrentInvocation();
+        LastControl.popCurrentInvocation(previous);
     }
 
     // Method need to be public for the test to work
@@ -60,7 +62,7 @@ class CapturesMatcherTest {
 
         assertTrue(matcher.matches(null));
 
-        matcher.validateCapture();
+        validateCaptures();
 
         clearBuffer();
         matcher.appendTo(buffer);
@@ -68,13 +70,19 @@ class CapturesMatcherTest {
 
         assertTrue(matcher.matches("s"));
 
-        matcher.validateCapture();
+        validateCaptures();
 
         clearBuffer();
         matcher.appendTo(buffer);
         assertEquals("capture([null, s])", buffer.toString());
     }
 
+    private void validateCaptures() {
+        Invocation invocation = LastControl.getCurrentInvocation();
+        invocation.validateCaptures();
+        invocation.clearCaptures();
+    }
+
     private void clearBuffer() {
         buffer.delete(0, buffer.length());
     }
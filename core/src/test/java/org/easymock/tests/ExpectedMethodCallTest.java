@@ -17,11 +17,13 @@ package org.easymock.tests;
 
 import org.easymock.internal.ExpectedInvocation;
 import org.easymock.internal.Invocation;
+import org.easymock.internal.matchers.Equals;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
 
 /**
  * @author OFFIS, Tammo Freese
@@ -38,12 +40,23 @@ class ExpectedMethodCallTest {
     }
 
     @Test
-    void testHashCode() {
-        try {
-            call.hashCode();
-            Assertions.fail();
-        } catch (UnsupportedOperationException expected) {
-            Assertions.assertEquals("hashCode() is not implemented", expected.getMessage());
-        }
+    void testHashCode() throws NoSuchMethodException {
+        Object[] arguments = new Object[] { "" };
+        Method m = Object.class.getMethod("equals", Object.class);
+        ExpectedInvocation equalCall = new ExpectedInvocation(new Invocation(null, m, arguments), null);
+        Assertions.assertEquals(call, equalCall);
+        Assertions.assertEquals(call.hashCode(), equalCall.hashCode());
+    }
+
+    @Test
+    void testHashCode_equalsMatchers() throws NoSuchMethodException {
+        Method m = IMethods.class.getMethod("oneArg", int.class);
+        Object mock = new Object();
+        ExpectedInvocation call = new ExpectedInvocation(new Invocation(mock, m, new Object[] { 0 }),
+            Collections.singletonList(new Equals(1000)));
+        ExpectedInvocation equalCall = new ExpectedInvocation(new Invocation(mock, m, new Object[] { 0 }),
+            Collections.singletonList(new Equals(1000)));
+        Assertions.assertEquals(call, equalCall);
+        Assertions.assertEquals(call.hashCode(), equalCall.hashCode());
     }
 }
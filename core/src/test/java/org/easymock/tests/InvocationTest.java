@@ -24,7 +24,6 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author OFFIS, Tammo Freese
@@ -60,8 +59,17 @@ class InvocationTest {
 
     @Test
     void testHashCode() {
-        UnsupportedOperationException e = assertThrows(UnsupportedOperationException.class, () -> call.hashCode());
-        assertEquals("hashCode() is not implemented", e.getMessage());
+        assertEquals(call.hashCode(), equalCall.hashCode());
+    }
+
+    @Test
+    void testHashCode_primitiveArgumentsHashedByValue() throws NoSuchMethodException {
+        Method m = IMethods.class.getMethod("oneArg", int.class);
+        Object mock = new Object();
+        Invocation call = new Invocation(mock, m, new Object[] { 1000 });
+        Invocation equalCall = new Invocation(mock, m, new Object[] { 1000 });
+        assertEquals(call, equalCall);
+        assertEquals(call.hashCode(), equalCall.hashCode());
     }
 
     @Test
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.tests;
+
+import org.easymock.IArgumentMatcher;
+import org.easymock.internal.matchers.And;
+import org.easymock.internal.matchers.Any;
+import org.easymock.internal.matchers.ArrayEquals;
+import org.easymock.internal.matchers.Equals;
+import org.easymock.internal.matchers.InstanceOf;
+import org.easymock.internal.matchers.MatcherCompiler;
+import org.easymock.internal.matchers.Not;
+import org.easymock.internal.matchers.NotNull;
+import org.easymock.internal.matchers.Null;
+import org.easymock.internal.matchers.Or;
+import org.easymock.internal.matchers.Same;
+import org.easymock.internal.matchers.StartsWith;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatcherCompilerTest {
+
+    private static final String SAME_VALUE = "same";
+
+    private static final Object[] VALUES = { null, 1, 2, "a", "abc", SAME_VALUE, new String(SAME_VALUE),
+            new int[] { 1 }, new Object() };
+
+    private static boolean matches(List<IArgumentMatcher> matchers, Object... arguments) throws Throwable {
+        MethodHandle predicate = MatcherCompiler.compile(matchers);
+        return (boolean) predicate.invokeExact(arguments);
+    }
+
+    private static void assertSameAsInterpreted(IArgumentMatcher matcher) throws Throwable {
+        for (Object value : VALUES) {
+            assertEquals(matcher.matches(value), matches(Collections.singletonList(matcher), value),
+                () -> matcherToString(matcher) + " with " + value);
+        }
+    }
+
+    private static String matcherToString(IArgumentMatcher matcher) {
+        StringBuffer buffer = new StringBuffer();
+        matcher.appendTo(buffer);
+        return buffer.toString();
+    }
+
+    @Test
+    void wellKnownMatchers() throws Throwable {
+        assertSameAsInterpreted(Any.ANY);
+        assertSameAsInterpreted(Null.NULL);
+        assertSameAsInterpreted(NotNull.NOT_NULL);
+        assertSameAsInterpreted(new Equals(1));
+        assertSameAsInterpreted(new Equals(null));
+        assertSameAsInterpreted(new Equals(SAME_VALUE));
+        assertSameAsInterpreted(new Same(SAME_VALUE));
+        assertSameAsInterpreted(new InstanceOf(String.class));
+        assertSameAsInterpreted(new InstanceOf(Number.class));
+    }
+
+    @Test
+    void otherMatchers() throws Throwable {
+        assertSameAsInterpreted(new ArrayEquals(new int[] { 1 }));
+        assertSameAsInterpreted(new StartsWith("a"));
+    }
+
+    @Test
+    void compositeMatchers() throws Throwable {
+        assertSameAsInterpreted(new Not(new Equals(1)));
+        assertSameAsInterpreted(new And(Arrays.asList(NotNull.NOT_NULL, new InstanceOf(String.class),
+                new StartsWith("a"))));
+        assertSameAsInterpreted(new Or(Arrays.asList(new Equals(1), new Same(SAME_VALUE), Null.NULL)));
+        assertSameAsInterpreted(new And(Collections.emptyList()));
+        assertSameAsInterpreted(new Or(Collections.emptyList()));
+        assertSameAsInterpreted(new Not(new Or(Arrays.asList(new Equals(1), new Not(Null.NULL)))));
+    }
+
+    @Test
+    void allArgumentsMustMatch() throws Throwable {
+        List<IArgumentMatcher> matchers = Arrays.asList(new Equals(1), Any.ANY, new Equals("a"));
+
+        assertTrue(matches(matchers, 1, null, "a"));
+        assertFalse(matches(matchers, 2, null, "a"));
+        assertFalse(matches(matchers, 1, null, "b"));
+        assertFalse(matches(matchers, 1, null));
+        assertFalse(matches(matchers, 1, null, "a", "a"));
+        assertTrue(matches(Collections.emptyList()));
+    }
+
+    @Test
+    void matchersCalledInOrderAndShortCircuited() throws Throwable {
+        List<String> calls = new ArrayList<>();
+        IArgumentMatcher first = new RecordingMatcher("first", calls);
+        IArgumentMatcher second = new RecordingMatcher("second", calls);
+
+        assertTrue(matches(Arrays.asList(first, second), "first", "second"));
+        assertEquals(Arrays.asList("first", "second"), calls);
+
+        calls.clear();
+        assertFalse(matches(Arrays.asList(first, second), "no", "second"));
+        assertEquals(Collections.singletonList("first"), calls);
+
+        calls.clear();
+        assertTrue(matches(Collections.singletonList(new Or(Arrays.asList(first, second))), "first"));
+        assertEquals(Collections.singletonList("first"), calls);
+
+        calls.clear();
+        assertFalse(matches(Collections.singletonList(new And(Arrays.asList(second, first))), "first"));
+        assertEquals(Collections.singletonList("second"), calls);
+    }
+
+    private static class RecordingMatcher implements IArgumentMatcher {
+
+        private final String expected;
+
+        private final List<String> calls;
+
+        RecordingMatcher(String expected, List<String> calls) {
+            this.expected = expected;
+            this.calls = calls;
+        }
+
+        @Override
+        public boolean matches(Object argument) {
+            calls.add(expected);
+            return expected.equals(argument);
+        }
+
+        @Override
+        public void appendTo(StringBuffer buffer) {
+            buffer.append(expected);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.tests;
+
+import org.easymock.IArgumentMatcher;
+import org.easymock.internal.matchers.And;
+import org.easymock.internal.matchers.Any;
+import org.easymock.internal.matchers.ArrayEquals;
+import org.easymock.internal.matchers.CompareEqual;
+import org.easymock.internal.matchers.DoubleArgumentMatcher;
+import org.easymock.internal.matchers.Equals;
+import org.easymock.internal.matchers.GreaterOrEqual;
+import org.easymock.internal.matchers.GreaterThan;
+import org.easymock.internal.matchers.IntArgumentMatcher;
+import org.easymock.internal.matchers.LessOrEqual;
+import org.easymock.internal.matchers.LessThan;
+import org.easymock.internal.matchers.LongArgumentMatcher;
+import org.easymock.internal.matchers.Not;
+import org.easymock.internal.matchers.Or;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The primitive matching must give the same answer as the matching of the boxed value.
+ */
+class PrimitiveArgumentMatcherTest {
+
+    private static String describe(IArgumentMatcher matcher) {
+        StringBuffer buffer = new StringBuffer();
+        matcher.appendTo(buffer);
+        return buffer.toString();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static IArgumentMatcher[] matchers(Object expected, Object other) {
+        return new IArgumentMatcher[] { Any.ANY, new Equals(expected), new Equals(null), new Equals("1"),
+                new ArrayEquals(new int[] { 1 }), new GreaterOrEqual<>((Comparable) expected),
+                new GreaterThan<>((Comparable) expected), new LessOrEqual<>((Comparable) expected),
+                new LessThan<>((Comparable) expected), new CompareEqual<>((Comparable) expected),
+                new Not(new Equals(expected)),
+                new And(Arrays.asList(new GreaterOrEqual<>((Comparable) expected), new Not(new Equals(other)))),
+                new Or(Arrays.asList(new Equals(other), new LessThan<>((Comparable) expected))) };
+    }
+
+    @Test
+    void intMatching() {
+        for (IArgumentMatcher matcher : matchers(1000, -5)) {
+            for (int actual : new int[] { Integer.MIN_VALUE, -5, 0, 999, 1000, 1001, Integer.MAX_VALUE }) {
+                assertEquals(matcher.matches(actual), IntArgumentMatcher.matches(matcher, actual),
+                    () -> describe(matcher) + " with " + actual);
+            }
+        }
+    }
+
+    @Test
+    void longMatching() {
+        for (IArgumentMatcher matcher : matchers(1000L, -5L)) {
+            for (long actual : new long[] { Long.MIN_VALUE, -5, 0, 999, 1000, 1001, Long.MAX_VALUE }) {
+                assertEquals(matcher.matches(actual), LongArgumentMatcher.matches(matcher, actual),
+                    () -> describe(matcher) + " with " + actual);
+            }
+        }
+    }
+
+    @Test
+    void doubleMatching() {
+        for (IArgumentMatcher matcher : matchers(0.0, Double.NaN)) {
+            for (double actual : new double[] { Double.NEGATIVE_INFINITY, -1, -0.0, 0.0, 1, Double.NaN }) {
+                assertEquals(matcher.matches(actual), DoubleArgumentMatcher.matches(matcher, actual),
+                    () -> describe(matcher) + " with " + actual);
+            }
+        }
+    }
+
+    @Test
+    void allBuiltInMatchersAvoidBoxing() {
+        for (IArgumentMatcher matcher : matchers(1, 2)) {
+            if (!(matcher instanceof IntArgumentMatcher)) {
+                fail(matcher.getClass() + " should match without boxing");
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -44,6 +45,16 @@ class ResultTest {
         assertEquals("Answer returning " + value, r.toString());
     }
 
+    @Test
+    void createEmptyReturnResultIsShared() throws Throwable {
+        assertSame(Result.createEmptyReturnResult(int.class), Result.createEmptyReturnResult(int.class));
+        assertSame(Result.createEmptyReturnResult(String.class), Result.createEmptyReturnResult(Object.class));
+        assertEquals(0, Result.createEmptyReturnResult(int.class).answer());
+        assertEquals(false, Result.createEmptyReturnResult(boolean.class).answer());
+        assertNull(Result.createEmptyReturnResult(void.class).answer());
+        assertNull(Result.createEmptyReturnResult(String.class).answer());
+    }
+
     @Test
     void createDelegateResultToString() {
         String value = "my value";
@@ -103,6 +103,26 @@ class StacktraceTest {
         }
     }
 
+    @Test
+    void assertNoFillWhenFastThrow() {
+        NullPointerException thrown = new NullPointerException();
+        StackTraceElement[] recorded = thrown.getStackTrace();
+        String previous = setEasyMockProperty(FAST_THROW, "true");
+        try {
+            expect(mock.oneArg("")).andThrow(thrown);
+            expect(mock.oneArg("a")).andStubThrow(thrown);
+        } finally {
+            setEasyMockProperty(FAST_THROW, previous);
+        }
+        replay(mock);
+
+        NullPointerException expected = Assertions.assertThrows(NullPointerException.class, () -> mock.oneArg(""));
+        Assertions.assertSame(thrown, expected);
+        Assertions.assertArrayEquals(recorded, expected.getStackTrace());
+        expected = Assertions.assertThrows(NullPointerException.class, () -> mock.oneArg("a"));
+        Assertions.assertArrayEquals(recorded, expected.getStackTrace());
+    }
+
     @Test
     void assertNoFillWhenDelegatingAnswer() {
         @SuppressWarnings("Convert2Lambda") // otherwise the assertion below won't work
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.easymock.EasyMock.*;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.lang.reflect.Proxy;
@@ -140,6 +141,30 @@ class UsageVarargTest {
         verify(mock);
     }
 
+    @Test
+    void emptyPrimitiveVararg() {
+        mock.withVarargsLong(1);
+        mock.withVarargsLong(1, 2);
+
+        replay(mock);
+        mock.withVarargsLong(1);
+        mock.withVarargsLong(1, 2);
+        verify(mock);
+    }
+
+    @Test
+    void primitiveVarargExpandedInCurrentArguments() {
+        mock.withVarargsChar(eq(1), anyChar(), anyChar());
+        expectLastCall().andAnswer(() -> {
+            assertArrayEquals(new Object[] { 1, 'a', 'b' }, getCurrentArguments());
+            return null;
+        });
+
+        replay(mock);
+        mock.withVarargsChar(1, 'a', 'b');
+        verify(mock);
+    }
+
     @Test
     void varargAcceptedIfArrayIsGiven() {
         IVarArgs object = (IVarArgs) Proxy.newProxyInstance(Thread.currentThread()
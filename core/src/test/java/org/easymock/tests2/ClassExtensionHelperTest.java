@@ -99,4 +99,11 @@ class ClassExtensionHelperTest {
         Class<?> c = getMockedClass(o);
         assertSame(List.class, c);
     }
+
+    @Test
+    void testMockType_Object() {
+        Object o = createMock(Object.class);
+        Class<?> c = getMockedClass(o);
+        assertSame(Object.class, c);
+    }
 }
@@ -15,8 +15,13 @@
  */
 package org.easymock.tests2;
 
+import org.easymock.internal.Invocation;
+import org.easymock.internal.LastControl;
+import org.easymock.internal.Result;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Method;
+
 import static org.easymock.EasyMock.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -103,15 +108,37 @@ class DelegateToTest {
     @Test
     void testWrongClass() {
         IMyInterface m = createMock(IMyInterface.class);
-        expect(m.getInt(0)).andDelegateTo("allo");
-        replay(m);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> expect(m.getInt(0)).andDelegateTo("allo"));
+        assertEquals(
+                "Delegation to object [allo] is not implementing the mocked method [public abstract int org.easymock.tests2.DelegateToTest$IMyInterface.getInt(int)]",
+                e.getMessage());
+    }
 
-        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> m.getInt(0));
+    @Test
+    void testStubWrongClass() {
+        IMyInterface m = createMock(IMyInterface.class);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> expect(m.getInt(0)).andStubDelegateTo("allo"));
         assertEquals(
                 "Delegation to object [allo] is not implementing the mocked method [public abstract int org.easymock.tests2.DelegateToTest$IMyInterface.getInt(int)]",
                 e.getMessage());
     }
 
+    @Test
+    void testVoidMethod() {
+        Runnable mock = createMock(Runnable.class);
+        int[] count = { 0 };
+        mock.run();
+        expectLastCall().andStubDelegateTo((Runnable) () -> count[0]++);
+
+        replay(mock);
+
+        mock.run();
+        mock.run();
+        assertEquals(2, count[0]);
+    }
+
     @Test
     void nullDelegationNotAllowed() {
         IMyInterface mock = createMock(IMyInterface.class);
@@ -133,17 +160,17 @@ class DelegateToTest {
         IMyVarArgsInterface delegateTo = new IMyVarArgsInterface() {
             @Override
             public int getInts(int... vals) {
-                return 0;
+                return vals.length;
             }
 
             @Override
             public int getMoreInts(int i, int... vals) {
-                return 0;
+                return i + vals.length * 10;
             }
 
             @Override
             public int getObjects(Object o, String... vals) {
-                return 0;
+                return String.join("", vals).length();
             }
         };
 
@@ -154,10 +181,28 @@ class DelegateToTest {
 
         replay(mock);
 
-        assertEquals(0, mock.getInts(1, 2, 3, 4, 5));
-        assertEquals(0, mock.getMoreInts(1, 2, 3));
-        assertEquals(0, mock.getObjects("a", "b", "c"));
+        assertEquals(5, mock.getInts(1, 2, 3, 4, 5));
+        assertEquals(21, mock.getMoreInts(1, 2, 3));
+        assertEquals(2, mock.getObjects("a", "b", "c"));
         assertEquals(0, mock.getInts());
     }
 
+    @Test
+    void nullInPrimitiveVarargs() throws Exception {
+        IMyVarArgsInterface delegateTo = mock(IMyVarArgsInterface.class);
+        Method method = IMyVarArgsInterface.class.getMethod("getInts", int[].class);
+        // Only possible when the arguments were changed, for instance through getCurrentArguments()
+        Invocation invocation = new Invocation(delegateTo, method, new Object[] { new Integer[] { 1, null } });
+        Result result = Result.createDelegatingResult(delegateTo);
+
+        Invocation previous = LastControl.pushCurrentInvocation(invocation);
+        try {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, result::answer);
+            assertEquals("Null element in the primitive varargs of [" + method + "] can't be passed to the delegate",
+                e.getMessage());
+        } finally {
+            LastControl.popCurrentInvocation(previous);
+        }
+    }
+
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2001-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.tests2;
+
+import static org.easymock.EasyMock.*;
+
+import org.easymock.tests.IMethods;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class FrozenMockTest {
+
+    @Test
+    void stubsMatchingAnyArguments() {
+        IMethods mock = mock(IMethods.class);
+        expect(mock.oneArg(anyString())).andStubReturn("A");
+        expect(mock.oneArg(eq("other"))).andStubReturn("B");
+        expect(mock.intReturningMethod(anyInt())).andStubReturn(3);
+        mock.simpleMethod();
+        expectLastCall().asStub();
+
+        freeze(mock);
+
+        Assertions.assertEquals("A", mock.oneArg("x"));
+        // the first stub wins
+        Assertions.assertEquals("A", mock.oneArg("other"));
+        Assertions.assertEquals(3, mock.intReturningMethod(1));
+        mock.simpleMethod();
+
+        verify(mock);
+    }
+
+    @Test
+    void stubsMatchingTheArguments() {
+        IMethods mock = mock(IMethods.class);
+        expect(mock.oneArg("a")).andStubReturn("A");
+        expect(mock.oneArg("b")).andStubReturn("B");
+        expect(mock.intReturningMethod(anyInt())).andStubAnswer(() -> (Integer) getCurrentArgument(0) * 2);
+        expect(mock.oneArg(1)).andStubThrow(new IllegalArgumentException());
+
+        freeze(mock);
+
+        Assertions.assertEquals("A", mock.oneArg("a"));
+        Assertions.assertEquals("B", mock.oneArg("b"));
+        Assertions.assertEquals(4, mock.intReturningMethod(2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> mock.oneArg(1));
+
+        verify(mock);
+    }
+
+    @Test
+    void niceDefaults() {
+        IMethods mock = niceMock(IMethods.class);
+        expect(mock.oneArg("a")).andStubReturn("A");
+
+        freeze(mock);
+
+        Assertions.assertEquals("A", mock.oneArg("a"));
+        Assertions.assertNull(mock.oneArg("b"));
+        Assertions.assertEquals(0, mock.intReturningMethod(2));
+        Assertions.assertNull(mock.oneArg(1));
+
+        verify(mock);
+    }
+
+    @Test
+    void unexpectedCall() {
+        IMethods mock = mock(IMethods.class);
+        expect(mock.oneArg("a")).andStubReturn("A");
+
+        freeze(mock);
+
+        AssertionError e = Assertions.assertThrows(AssertionError.class, () -> mock.oneArg("b"));
+        Assertions.assertTrue(e.getMessage().startsWith("\n  Unexpected method call "));
+        Assertions.assertTrue(e.getMessage().endsWith("IMethods.oneArg(\"b\")"));
+        Assertions.assertThrows(AssertionError.class, () -> mock.intReturningMethod(1));
+
+        e = Assertions.assertThrows(AssertionError.class, () -> verify(mock));
+        Assertions.assertTrue(e.getMessage().startsWith("\n  Unexpected method calls:"));
+        Assertions.assertTrue(e.getMessage().contains("IMethods.oneArg(\"b\")"));
+        Assertions.assertTrue(e.getMessage().contains("IMethods.intReturningMethod(1 (int))"));
+    }
+
+    @Test
+    void onlyStubsCanBeFrozen() {
+        IMethods mock = mock(IMethods.class);
+        expect(mock.oneArg("a")).andReturn("A");
+
+        IllegalStateException e = Assertions.assertThrows(IllegalStateException.class, () -> freeze(mock));
+        Assertions.assertEquals("only stubs can be recorded on a frozen mock, use replay() to verify expectations",
+            e.getMessage());
+    }
+
+    @Test
+    void failedFreezeKeepsRecording() {
+        IMethods mock = mock(IMethods.class);
+        expect(mock.oneArg("a")).andReturn("A");
+        Assertions.assertThrows(IllegalStateException.class, () -> freeze(mock));
+
+        expect(mock.oneArg("b")).andStubReturn("B");
+        expect(mock.oneArg("c")).andReturn("C");
+        Assertions.assertThrows(IllegalStateException.class, () -> freeze(mock));
+
+        replay(mock);
+        Assertions.assertEquals("A", mock.oneArg("a"));
+        Assertions.assertEquals("B", mock.oneArg("b"));
+        Assertions.assertEquals("C", mock.oneArg("c"));
+        verify(mock);
+    }
+
+    @Test
+    void usedInOneThread() throws Exception {
+        IMethods mock = mock(IMethods.class);
+        expect(mock.oneArg("a")).andStubReturn("A");
+        checkIsUsedInOneThread(mock, true);
+        freeze(mock);
+
+        Assertions.assertEquals("A", mock.oneArg("a"));
+        AssertionError[] error = new AssertionError[1];
+        Thread thread = new Thread(
+            () -> error[0] = Assertions.assertThrows(AssertionError.class, () -> mock.oneArg("a")));
+        thread.start();
+        thread.join();
+        Assertions.assertNotNull(error[0]);
+        Assertions.assertTrue(
+            error[0].getMessage().startsWith("\n Mock isn't supposed to be called from multiple threads."));
+    }
+
+    @Test
+    void frozenMockIsReplayed() {
+        IMethods mock = mock(IMethods.class);
+        freeze(mock);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> replay(mock));
+
+        reset(mock);
+        expect(mock.oneArg("a")).andReturn("A");
+        replay(mock);
+        Assertions.assertEquals("A", mock.oneArg("a"));
+        verify(mock);
+    }
+}
@@ -135,4 +135,25 @@ class PartialMockingTest {
             .createMock();
         Assertions.assertNotNull(c);
     }
+
+    @Test
+    void partialMock_onlyMockedMethodsAreOverridden() throws Exception {
+        B b = EasyMock.partialMockBuilder(B.class)
+            .addMockedMethod("toString")
+            .createMock();
+        Assertions.assertEquals(b.getClass(), b.getClass().getDeclaredMethod("toString").getDeclaringClass());
+        Assertions.assertThrows(NoSuchMethodException.class, () -> b.getClass().getDeclaredMethod("called"));
+    }
+
+    @Test
+    void partialMock_classDependsOnMockedMethods() {
+        B full = EasyMock.mock(B.class);
+        B called = EasyMock.partialMockBuilder(B.class).addMockedMethod("called").createMock();
+        B sameCalled = EasyMock.partialMockBuilder(B.class).addMockedMethod("called").createMock();
+        B none = EasyMock.partialMockBuilder(B.class).createMock();
+
+        Assertions.assertSame(called.getClass(), sameCalled.getClass());
+        Assertions.assertNotSame(full.getClass(), called.getClass());
+        Assertions.assertNotSame(none.getClass(), called.getClass());
+    }
 }
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.easymock.EasyMock.*;
 
@@ -114,6 +115,80 @@ class ThreadingTest {
         verify(mock);
     }
 
+    @Test
+    void testAnswersAreGivenOneAtATime() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        IMethods mock = createMock(IMethods.class);
+        expect(mock.oneArg("test")).andAnswer(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            running.decrementAndGet();
+            return "result";
+        }).times(THREAD_COUNT);
+
+        replay(mock);
+
+        Callable<String> replay = () -> mock.oneArg("test");
+
+        ExecutorService service = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        List<Callable<String>> tasks = Collections.nCopies(THREAD_COUNT, replay);
+
+        List<Future<String>> results = service.invokeAll(tasks);
+
+        for (Future<String> future : results) {
+            Assertions.assertEquals("result", future.get());
+        }
+        service.shutdown();
+
+        // A thread-safe mock is locked until the answer is given
+        Assertions.assertEquals(1, maxRunning.get());
+        verify(mock);
+    }
+
+    @Test
+    void testAnswerIsGivenOutsideTheLockWithConcurrentReplay() throws Exception {
+        String previousConcurrentReplay = setEasyMockProperty(CONCURRENT_REPLAY, "true");
+        try {
+            answerIsGivenOutsideTheLock();
+        } finally {
+            setEasyMockProperty(CONCURRENT_REPLAY, previousConcurrentReplay);
+        }
+    }
+
+    private void answerIsGivenOutsideTheLock() throws Exception {
+        CountDownLatch slowAnswerStarted = new CountDownLatch(1);
+        CountDownLatch fastCallDone = new CountDownLatch(1);
+
+        IMethods mock = createMock(IMethods.class);
+        expect(mock.oneArg("slow")).andAnswer(() -> {
+            slowAnswerStarted.countDown();
+            // The other call would be blocked by the lock if the answer was given while holding it
+            boolean done = fastCallDone.await(10, TimeUnit.SECONDS);
+            return done + " " + getCurrentArgument(0);
+        });
+        expect(mock.oneArg("fast")).andReturn("fast");
+
+        replay(mock);
+
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> slow = service.submit(() -> mock.oneArg("slow"));
+            slowAnswerStarted.await();
+
+            Assertions.assertEquals("fast", mock.oneArg("fast"));
+            fastCallDone.countDown();
+
+            Assertions.assertEquals("true slow", slow.get());
+        } finally {
+            service.shutdown();
+        }
+
+        verify(mock);
+    }
+
     @Test
     void testChangeDefault() throws Throwable {
         String previousThreadSafetyCheck = setEasyMockProperty(ENABLE_THREAD_SAFETY_CHECK_BY_DEFAULT,
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.processor;
+
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.ImportTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreePathScanner;
+import com.sun.source.util.Trees;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Annotation processor generating mock classes at compile time. EasyMock will then use them instead of generating
+ * mock classes when the tests are running.
+ * <p>
+ * The mocked types are found in two places:
+ * <ul>
+ *     <li>the type of the fields annotated with {@code @Mock}</li>
+ *     <li>the {@code X.class} arguments of calls to {@code mock}, {@code niceMock}, {@code strictMock},
+ *     {@code createMock}, {@code createNiceMock} and {@code createStrictMock}. This requires javac since the
+ *     method bodies are not visible through the standard annotation processing API</li>
+ * </ul>
+ * Types that can't be mocked from their package by plain Java code are ignored. EasyMock will keep generating their
+ * mock classes at runtime.
+ */
+@SupportedAnnotationTypes("*")
+public class EasyMockProcessor extends AbstractProcessor {
+
+    private static final String MOCK_ANNOTATION = "org.easymock.Mock";
+
+    private static final Set<String> MOCK_METHODS = new HashSet<>(Arrays.asList("mock", "niceMock", "strictMock",
+        "createMock", "createNiceMock", "createStrictMock"));
+
+    /**
+     * Mocked types already handled in a previous round
+     */
+    private final Set<String> processed = new HashSet<>();
+
+    /**
+     * Access to the method bodies. Null when the compiler isn't javac
+     */
+    private Trees trees;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        try {
+            trees = Trees.instance(processingEnv);
+        } catch (IllegalArgumentException e) {
+            trees = null;
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> mockedTypes = new LinkedHashSet<>();
+
+        TypeElement mockAnnotation = processingEnv.getElementUtils().getTypeElement(MOCK_ANNOTATION);
+        if (mockAnnotation != null) {
+            for (Element field : roundEnv.getElementsAnnotatedWith(mockAnnotation)) {
+                if (field.getKind() == ElementKind.FIELD) {
+                    addMockedType(mockedTypes, field.asType());
+                }
+            }
+        }
+
+        if (trees != null) {
+            for (Element root : roundEnv.getRootElements()) {
+                TreePath path = trees.getPath(root);
+                if (path != null) {
+                    new MockCallScanner(mockedTypes).scan(path, null);
+                }
+            }
+        }
+
+        for (TypeElement mockedType : mockedTypes) {
+            if (processed.add(mockedType.getQualifiedName().toString())) {
+                new MockClassWriter(processingEnv, mockedType).write();
+            }
+        }
+
+        // Other processors might be interested in the same annotations
+        return false;
+    }
+
+    private static void addMockedType(Set<TypeElement> mockedTypes, TypeMirror type) {
+        if (type.getKind() == TypeKind.DECLARED) {
+            mockedTypes.add((TypeElement) ((DeclaredType) type).asElement());
+        }
+    }
+
+    /**
+     * Finds the class literals passed to the EasyMock methods creating mocks.
+     */
+    private class MockCallScanner extends TreePathScanner<Void, Void> {
+
+        private final Set<TypeElement> mockedTypes;
+
+        MockCallScanner(Set<TypeElement> mockedTypes) {
+            this.mockedTypes = mockedTypes;
+        }
+
+        @Override
+        public Void visitMethodInvocation(MethodInvocationTree node, Void unused) {
+            if (MOCK_METHODS.contains(methodName(node.getMethodSelect()))) {
+                for (ExpressionTree argument : node.getArguments()) {
+                    if (isClassLiteral(argument)) {
+                        addClassLiteralType(argument);
+                    }
+                }
+            }
+            return super.visitMethodInvocation(node, unused);
+        }
+
+        private String methodName(ExpressionTree methodSelect) {
+            switch (methodSelect.getKind()) {
+                case MEMBER_SELECT:
+                    return ((MemberSelectTree) methodSelect).getIdentifier().toString();
+                case IDENTIFIER:
+                    return ((IdentifierTree) methodSelect).getName().toString();
+                default:
+                    return null;
+            }
+        }
+
+        private boolean isClassLiteral(ExpressionTree argument) {
+            return argument.getKind() == Tree.Kind.MEMBER_SELECT
+                && ((MemberSelectTree) argument).getIdentifier().contentEquals("class");
+        }
+
+        private void addClassLiteralType(ExpressionTree argument) {
+            // Method bodies are not attributed yet, so the type name needs to be resolved like the compiler would
+            String name = ((MemberSelectTree) argument).getExpression().toString();
+            TypeElement type = resolveType(name);
+            if (type != null) {
+                mockedTypes.add(type);
+            }
+        }
+
+        private TypeElement resolveType(String name) {
+            String[] parts = name.split("\\.");
+            // Either the first part is a simple name in scope or a prefix of the name is a qualified name
+            TypeElement type = resolveSimpleName(parts[0]);
+            int next = 1;
+            if (type == null) {
+                Elements elements = processingEnv.getElementUtils();
+                for (int i = parts.length; i > 0 && type == null; i--) {
+                    type = elements.getTypeElement(String.join(".", Arrays.copyOf(parts, i)));
+                    next = i;
+                }
+            }
+            for (int i = next; i < parts.length && type != null; i++) {
+                type = memberType(type, parts[i]);
+            }
+            return type;
+        }
+
+        private TypeElement resolveSimpleName(String name) {
+            // Enclosing classes and their member types
+            for (TreePath path = getCurrentPath(); path != null; path = path.getParentPath()) {
+                if (path.getLeaf() instanceof ClassTree) {
+                    Element element = trees.getElement(path);
+                    if (element instanceof TypeElement) {
+                        TypeElement enclosing = (TypeElement) element;
+                        if (enclosing.getSimpleName().contentEquals(name)) {
+                            return enclosing;
+                        }
+                        TypeElement member = memberType(enclosing, name);
+                        if (member != null) {
+                            return member;
+                        }
+                    }
+                }
+            }
+
+            Elements elements = processingEnv.getElementUtils();
+            CompilationUnitTree unit = getCurrentPath().getCompilationUnit();
+            List<String> onDemandImports = new ArrayList<>();
+            for (ImportTree importTree : unit.getImports()) {
+                if (importTree.isStatic()) {
+                    continue;
+                }
+                String imported = importTree.getQualifiedIdentifier().toString();
+                if (imported.endsWith(".*")) {
+                    onDemandImports.add(imported.substring(0, imported.length() - 1));
+                } else if (imported.endsWith("." + name)) {
+                    return elements.getTypeElement(imported);
+                }
+            }
+
+            ExpressionTree packageName = unit.getPackageName();
+            TypeElement type = elements.getTypeElement(packageName == null ? name : packageName + "." + name);
+            if (type != null) {
+                return type;
+            }
+            onDemandImports.add("java.lang.");
+            for (String onDemandImport : onDemandImports) {
+                type = elements.getTypeElement(onDemandImport + name);
+                if (type != null) {
+                    return type;
+                }
+            }
+            return null;
+        }
+
+        private TypeElement memberType(TypeElement type, String name) {
+            for (TypeElement member : ElementFilter.typesIn(processingEnv.getElementUtils().getAllMembers(type))) {
+                if (member.getSimpleName().contentEquals(name)) {
+                    return member;
+                }
+            }
+            return null;
+        }
+    }
+}
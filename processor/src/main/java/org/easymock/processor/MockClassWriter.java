@@ -0,0 +1,380 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes the source of the precompiled mock class of a type. The generated class must match what
+ * {@code org.easymock.internal.PrecompiledProxyFactory} expects:
+ * <ul>
+ *     <li>named after the binary name of the mocked type with the {@code $$EasyMock$Precompiled} suffix</li>
+ *     <li>implementing {@code PrecompiledMock} and having a public {@code $callback} field</li>
+ *     <li>overriding every method to forward it to the handler with {@code PrecompiledMockSupport}</li>
+ * </ul>
+ * Signatures are erased. It keeps the generated code simple and still overrides the original methods.
+ */
+class MockClassWriter {
+
+    static final String CLASS_SUFFIX = "$$EasyMock$Precompiled";
+
+    private static final String SUPPORT = "org.easymock.internal.PrecompiledMockSupport";
+
+    private static final String[] IGNORED_PACKAGES = { "java.", "javax.", "jdk.", "sun.", "com.sun." };
+
+    private final ProcessingEnvironment processingEnv;
+
+    private final Elements elements;
+
+    private final Types types;
+
+    private final TypeElement mockedType;
+
+    private final String packageName;
+
+    private final String mockedName;
+
+    MockClassWriter(ProcessingEnvironment processingEnv, TypeElement mockedType) {
+        this.processingEnv = processingEnv;
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.mockedType = mockedType;
+        this.packageName = elements.getPackageOf(mockedType).getQualifiedName().toString();
+        this.mockedName = types.erasure(mockedType.asType()).toString();
+    }
+
+    /**
+     * Write the mock class if the mocked type can be mocked by plain Java code.
+     *
+     * @return if the mock class was written
+     */
+    boolean write() {
+        if (!isMockable()) {
+            return false;
+        }
+
+        List<ExecutableElement> methods = methodsToMock();
+        if (methods == null) {
+            return false;
+        }
+        ExecutableElement constructor = null;
+        if (mockedType.getKind() == ElementKind.CLASS) {
+            constructor = superConstructor();
+            if (constructor == null) {
+                return false;
+            }
+        }
+
+        String simpleName = elements.getBinaryName(mockedType).toString().substring(
+            packageName.isEmpty() ? 0 : packageName.length() + 1) + CLASS_SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        StringBuilder source = new StringBuilder(4096);
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Mock of {@link ").append(mockedName).append("} generated by the EasyMock annotation processor.\n */\n");
+        source.append("@SuppressWarnings({ \"rawtypes\", \"unchecked\", \"deprecation\", \"removal\" })\n");
+        source.append("public final class ").append(simpleName);
+        if (mockedType.getKind() == ElementKind.INTERFACE) {
+            source.append(" implements ").append(mockedName).append(", ");
+        } else {
+            source.append(" extends ").append(mockedName).append(" implements ");
+        }
+        source.append("org.easymock.internal.PrecompiledMock {\n\n");
+        source.append("    public org.easymock.internal.ClassMockingData $callback;\n\n");
+
+        for (int i = 0; i < methods.size(); i++) {
+            appendMethodField(source, i, methods.get(i));
+        }
+        source.append('\n');
+
+        if (constructor == null) {
+            source.append("    public ").append(simpleName).append("() {\n    }\n");
+        } else {
+            appendConstructor(source, simpleName, constructor);
+        }
+
+        for (int i = 0; i < methods.size(); i++) {
+            appendMethod(source, i, methods.get(i));
+        }
+        source.append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, mockedType).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "Failed to write the precompiled mock of " + mockedName + ": " + e, mockedType);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isMockable() {
+        ElementKind kind = mockedType.getKind();
+        if (kind != ElementKind.CLASS && kind != ElementKind.INTERFACE) {
+            return false;
+        }
+        if (mockedType.getModifiers().contains(Modifier.FINAL) || isSealed(mockedType)) {
+            return false;
+        }
+        for (String ignored : IGNORED_PACKAGES) {
+            if (packageName.startsWith(ignored)) {
+                return false;
+            }
+        }
+        // An inner class needs an enclosing instance, a local class can't be referenced
+        NestingKind nesting = mockedType.getNestingKind();
+        if (nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS) {
+            return false;
+        }
+        if (nesting == NestingKind.MEMBER && kind == ElementKind.CLASS && !mockedType.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        if (!isAccessible(mockedType)) {
+            return false;
+        }
+        // EasyMock has special needs for fillInStackTrace that only the runtime mocks are handling
+        TypeElement throwable = elements.getTypeElement(Throwable.class.getName());
+        return !types.isSubtype(types.erasure(mockedType.asType()), types.erasure(throwable.asType()));
+    }
+
+    private static boolean isSealed(TypeElement type) {
+        // Modifier.SEALED only exists since Java 17
+        for (Modifier modifier : type.getModifiers()) {
+            if (modifier.name().equals("SEALED")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collect all the methods to override, with a single method per erased signature.
+     *
+     * @return the methods or null if one of them can't be overridden from the generated class
+     */
+    private List<ExecutableElement> methodsToMock() {
+        Map<String, ExecutableElement> methods = new LinkedHashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(mockedType))) {
+            if (!isOverridable(method)) {
+                continue;
+            }
+            TypeElement declaringType = (TypeElement) method.getEnclosingElement();
+            // Interface mocks only get the Object methods EasyMock cares about, like java proxies
+            if (mockedType.getKind() == ElementKind.INTERFACE
+                && declaringType.getQualifiedName().contentEquals(Object.class.getName())) {
+                continue;
+            }
+            ExecutableType memberType = memberType(method);
+            if (!isAccessible(memberType.getReturnType())) {
+                return null;
+            }
+            for (TypeMirror parameterType : memberType.getParameterTypes()) {
+                if (!isAccessible(parameterType)) {
+                    return null;
+                }
+            }
+            ExecutableElement existing = methods.putIfAbsent(signature(method), method);
+            // A class implementation wins over an interface method with the same signature
+            if (existing != null && existing.getEnclosingElement().getKind() == ElementKind.INTERFACE
+                && declaringType.getKind() == ElementKind.CLASS) {
+                methods.put(signature(method), method);
+            }
+        }
+        if (mockedType.getKind() == ElementKind.INTERFACE) {
+            TypeElement object = elements.getTypeElement(Object.class.getName());
+            for (ExecutableElement method : ElementFilter.methodsIn(object.getEnclosedElements())) {
+                String name = method.getSimpleName().toString();
+                if (name.equals("equals") || name.equals("hashCode") || name.equals("toString")) {
+                    methods.putIfAbsent(signature(method), method);
+                }
+            }
+        }
+        return new ArrayList<>(methods.values());
+    }
+
+    private boolean isOverridable(ExecutableElement method) {
+        Set<Modifier> modifiers = method.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL) || modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        if (modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.PROTECTED)) {
+            return true;
+        }
+        // Package scope methods can only be overridden from the same package
+        return elements.getPackageOf(method).getQualifiedName().contentEquals(packageName);
+    }
+
+    private ExecutableElement superConstructor() {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(mockedType.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                continue;
+            }
+            boolean accessible = true;
+            for (TypeMirror parameterType : memberType(constructor).getParameterTypes()) {
+                accessible &= isAccessible(parameterType);
+            }
+            if (accessible) {
+                return constructor;
+            }
+        }
+        return null;
+    }
+
+    private void appendMethodField(StringBuilder source, int index, ExecutableElement method) {
+        source.append("    private static final java.lang.reflect.Method $m").append(index).append(" = ")
+            .append(SUPPORT).append(".method(").append(mockedName).append(".class, \"")
+            .append(method.getSimpleName()).append('"');
+        // The declared erasure is what reflection sees
+        for (TypeMirror parameterType : ((ExecutableType) types.erasure(method.asType())).getParameterTypes()) {
+            source.append(", ").append(types.erasure(parameterType)).append(".class");
+        }
+        source.append(");\n");
+    }
+
+    private void appendConstructor(StringBuilder source, String simpleName, ExecutableElement constructor) {
+        // Never called, instances are created by Objenesis
+        source.append("    private ").append(simpleName).append("() throws Throwable {\n        super(");
+        List<? extends TypeMirror> parameterTypes = memberType(constructor).getParameterTypes();
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            if (i > 0) {
+                source.append(", ");
+            }
+            TypeMirror type = types.erasure(parameterTypes.get(i));
+            source.append('(').append(type).append(") ").append(defaultValue(type));
+        }
+        source.append(");\n    }\n");
+    }
+
+    private void appendMethod(StringBuilder source, int index, ExecutableElement method) {
+        ExecutableType memberType = memberType(method);
+        TypeMirror returnType = types.erasure(memberType.getReturnType());
+        List<? extends TypeMirror> parameterTypes = memberType.getParameterTypes();
+
+        source.append("\n    ");
+        if (method.getModifiers().contains(Modifier.PUBLIC) || mockedType.getKind() == ElementKind.INTERFACE) {
+            source.append("public ");
+        } else if (method.getModifiers().contains(Modifier.PROTECTED)) {
+            source.append("protected ");
+        }
+        source.append(returnType).append(' ').append(method.getSimpleName()).append('(');
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            if (i > 0) {
+                source.append(", ");
+            }
+            source.append(types.erasure(parameterTypes.get(i))).append(" $p").append(i);
+        }
+        source.append(") {\n        ");
+
+        if (returnType.getKind() != TypeKind.VOID) {
+            source.append("return (").append(returnType.getKind().isPrimitive()
+                ? types.boxedClass(types.getPrimitiveType(returnType.getKind())).getQualifiedName()
+                : returnType).append(") ");
+        }
+        source.append(SUPPORT).append(".invoke(this, $callback, $m").append(index).append(", new Object[] {");
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            source.append(i == 0 ? " " : ", ").append("$p").append(i);
+        }
+        source.append(parameterTypes.isEmpty() ? "});\n    }\n" : " });\n    }\n");
+    }
+
+    private ExecutableType memberType(ExecutableElement method) {
+        DeclaredType site = (DeclaredType) types.erasure(mockedType.asType());
+        return (ExecutableType) types.asMemberOf(site, method);
+    }
+
+    private String signature(ExecutableElement method) {
+        StringBuilder signature = new StringBuilder(method.getSimpleName());
+        for (TypeMirror parameterType : memberType(method).getParameterTypes()) {
+            signature.append(',').append(types.erasure(parameterType));
+        }
+        return signature.toString();
+    }
+
+    private boolean isAccessible(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return isAccessible(((ArrayType) type).getComponentType());
+            case DECLARED:
+                return isAccessible((TypeElement) ((DeclaredType) type).asElement());
+            case TYPEVAR:
+            case WILDCARD:
+            case INTERSECTION:
+                return isAccessible(types.erasure(type));
+            default:
+                return true;
+        }
+    }
+
+    private boolean isAccessible(TypeElement type) {
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            Set<Modifier> modifiers = e.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !samePackage(e)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean samePackage(Element e) {
+        PackageElement p = elements.getPackageOf(e);
+        return p.getQualifiedName().contentEquals(packageName);
+    }
+
+    private static String defaultValue(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "false";
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return "0";
+            default:
+                return "null";
+        }
+    }
+}
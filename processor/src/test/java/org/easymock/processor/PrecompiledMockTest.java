@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.processor;
+
+import org.easymock.EasyMock;
+import org.easymock.EasyMockExtension;
+import org.easymock.EasyMockSupport;
+import org.easymock.Mock;
+import org.easymock.internal.PrecompiledMock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.easymock.EasyMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(EasyMockExtension.class)
+class PrecompiledMockTest {
+
+    @Mock
+    private Service service;
+
+    @Test
+    void mockField() throws IOException {
+        assertTrue(service instanceof PrecompiledMock);
+
+        expect(service.get(1)).andReturn("a");
+        expect(service.count("a", "b")).andReturn(2);
+        expect(service.max(Arrays.asList(1, 3, 2))).andReturn(3);
+        expect(service.describe()).andReturn("mocked");
+        service.save("x");
+        expectLastCall().andThrow(new IOException("failed"));
+        replay(service);
+
+        assertEquals("a", service.get(1));
+        assertEquals(2, service.count("a", "b"));
+        assertEquals(Integer.valueOf(3), service.max(Arrays.asList(1, 3, 2)));
+        assertEquals("mocked", service.describe());
+        IOException e = assertThrows(IOException.class, () -> service.save("x"));
+        assertEquals("failed", e.getMessage());
+        verify(service);
+    }
+
+    @Test
+    void objectMethods() {
+        replay(service);
+        assertEquals("EasyMock for field " + getClass().getName() + ".service", service.toString());
+        assertEquals(System.identityHashCode(service), service.hashCode());
+        assertEquals(service, service);
+        assertSame(Service.class, EasyMockSupport.getMockedClass(service));
+    }
+
+    @Test
+    void unexpectedCall() {
+        replay(service);
+        AssertionError e = assertThrows(AssertionError.class, () -> service.get(3));
+        assertTrue(e.getMessage().contains("Unexpected method call EasyMock for field " + getClass().getName()
+            + ".service -> Service.get(3 (int))"), e.getMessage());
+    }
+
+    @Test
+    void classMock() {
+        StringRepository repository = mock(StringRepository.class);
+        assertTrue(repository instanceof PrecompiledMock);
+        assertSame(StringRepository.class, EasyMockSupport.getMockedClass(repository));
+
+        expect(repository.find(1)).andReturn("a");
+        expect(repository.name()).andReturn("mocked");
+        expect(repository.exists("a")).andReturn(false);
+        replay(repository);
+
+        assertEquals("a", repository.find(1));
+        assertEquals("mocked", repository.name());
+        assertFalse(repository.exists("a"));
+        verify(repository);
+    }
+
+    @Test
+    void classMock_throughTheParent() {
+        Repository<String> repository = niceMock(StringRepository.class);
+        expect(repository.find(1)).andReturn("a");
+        replay(repository);
+
+        assertEquals("a", repository.find(1));
+        assertNull(repository.find(2));
+        assertFalse(repository.exists("a"));
+        verify(repository);
+    }
+
+    @Test
+    void partialMock_generatedAtRuntime() {
+        StringRepository repository = partialMockBuilder(StringRepository.class).addMockedMethod("name").createMock();
+        assertFalse(repository instanceof PrecompiledMock);
+    }
+
+    @Test
+    void jdkClass_generatedAtRuntime() {
+        ArrayList<?> list = mock(ArrayList.class);
+        assertFalse(list instanceof PrecompiledMock);
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.easymock.processor;
+
+public abstract class Repository<E> {
+
+    private final String name;
+
+    protected Repository(String name) {
+        this.name = name;
+    }
+
+    public abstract E find(long id);
+
+    public String name() {
+        return name;
+    }
+
+    boolean exists(E entity) {
+        return true;
+    }
+}